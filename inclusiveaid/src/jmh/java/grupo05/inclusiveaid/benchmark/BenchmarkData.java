@@ -0,0 +1,107 @@
+package grupo05.inclusiveaid.benchmark;
+
+import grupo05.inclusiveaid.config.ImageProcessingConfig;
+import grupo05.inclusiveaid.config.NLPConfig;
+import grupo05.inclusiveaid.config.VoiceProcessingConfig;
+import grupo05.inclusiveaid.dto.AgentInteractionDTO;
+import grupo05.inclusiveaid.entity.AIAgent;
+import grupo05.inclusiveaid.entity.DisabilitySpecificConfig;
+import grupo05.inclusiveaid.entity.DisabilityType;
+import grupo05.inclusiveaid.entity.LayoutAnalysis;
+import grupo05.inclusiveaid.entity.Role;
+import grupo05.inclusiveaid.entity.Session;
+import grupo05.inclusiveaid.entity.User;
+import grupo05.inclusiveaid.enums.InteractionType;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Dados de entrada compartilhados pelos benchmarks.
+ * Os tamanhos reproduzem cargas típicas da aplicação: agentes com dezenas de
+ * usuários ativos e imagens em base64 de dezenas de kilobytes.
+ */
+final class BenchmarkData {
+
+    static final String JWT_SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        Set<DisabilityType> types = new HashSet<>();
+        for (long i = 1; i <= 3; i++) {
+            types.add(DisabilityType.builder().id(i).name("type-" + i).build());
+        }
+        return User.builder()
+            .id(id)
+            .name("Usuário " + id)
+            .email("user" + id + "@inclusiveaid.com")
+            .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2B/6G9pP8t0g1qQe3lS5YGa")
+            .role(Role.builder().id(1L).name("ROLE_USER").build())
+            .disabilityTypes(types)
+            .notes("Prefere alto contraste e fonte ampliada")
+            .build();
+    }
+
+    static AIAgent agent(int activeUsers, int disabilityConfigs) {
+        Set<User> users = new HashSet<>();
+        for (long i = 1; i <= activeUsers; i++) {
+            users.add(User.builder().id(i).email("user" + i + "@inclusiveaid.com").build());
+        }
+        List<DisabilitySpecificConfig> configs = new ArrayList<>();
+        for (long i = 1; i <= disabilityConfigs; i++) {
+            configs.add(DisabilitySpecificConfig.builder().id(i).build());
+        }
+        return AIAgent.builder()
+            .id(1L)
+            .name("Default Agent")
+            .version("1.0.0")
+            .isActive(true)
+            .lastUpdate(LocalDateTime.now())
+            .nlpConfig(NLPConfig.builder().languageModel("gpt-3.5-turbo").confidenceThreshold(0.8).enableContextAwareness(true).build())
+            .imageConfig(ImageProcessingConfig.builder().objectDetectionModel("yolov5").detectionThreshold(0.7).enableOCR(true).build())
+            .voiceConfig(VoiceProcessingConfig.builder().speechRecognitionModel("whisper").recognitionThreshold(0.75).enableNoiseReduction(true).build())
+            .activeUsers(users)
+            .disabilityConfigs(configs)
+            .build();
+    }
+
+    static LayoutAnalysis layoutAnalysis() {
+        Session session = Session.builder().id(1L).user(user(1L)).startedAt(Instant.now()).build();
+        return LayoutAnalysis.builder()
+            .id(1L)
+            .session(session)
+            .details("{\"elements\":" + "[{\"role\":\"button\",\"contrast\":4.5}]".repeat(20) + "}")
+            .timestamp(Instant.now())
+            .build();
+    }
+
+    static AgentInteractionDTO interaction(int responseChars) {
+        return AgentInteractionDTO.builder()
+            .id(1L)
+            .agentId(1L)
+            .userId(1L)
+            .timestamp(LocalDateTime.now())
+            .type(InteractionType.IMAGE_DESCRIPTION)
+            .action(base64Image(responseChars))
+            .response("A imagem mostra ".repeat(Math.max(1, responseChars / 16)))
+            .successful(true)
+            .build();
+    }
+
+    /**
+     * Gera uma "imagem" em base64 com aproximadamente o número de caracteres pedido.
+     */
+    static String base64Image(int chars) {
+        byte[] bytes = new byte[chars * 3 / 4];
+        new Random(42).nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,63 @@
+package grupo05.inclusiveaid.benchmark;
+
+import grupo05.inclusiveaid.security.JwtService;
+import grupo05.inclusiveaid.security.JwtTokenCache;
+import grupo05.inclusiveaid.security.UserPrincipal;
+import grupo05.inclusiveaid.security.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão e validação de tokens JWT: assinatura, extração do usuário com
+ * verificação completa e resolução pelo cache de tokens já verificados.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+    private JwtTokenCache tokenCache;
+    private UserPrincipal principal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(BenchmarkData.JWT_SECRET, TimeUnit.DAYS.toMillis(1));
+        principal = UserPrincipal.from(BenchmarkData.user(1L));
+        tokenCache = new JwtTokenCache(jwtService, username -> principal, new SimpleMeterRegistry(),
+            10_000, Duration.ofMinutes(15));
+        token = jwtService.generateToken(principal);
+        tokenCache.resolve(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(principal);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public VerifiedToken resolveCachedToken() {
+        return tokenCache.resolve(token);
+    }
+}
@@ -0,0 +1,74 @@
+package grupo05.inclusiveaid.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import grupo05.inclusiveaid.config.LoggingFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do {@link LoggingFilter} por requisição, com e sem captura de corpos,
+ * para uma requisição com imagem em base64 (como em describe-image).
+ * A cadeia lê o corpo inteiro e escreve uma resposta JSON, como um controlador faria.
+ * O logger do filtro não tem appenders: mede-se o filtro, não a escrita do log.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean captureBodies;
+
+    @Param({"65536"})
+    private int bodyChars;
+
+    private LoggingFilter filter;
+    private FilterChain chain;
+    private byte[] requestBody;
+
+    @Setup
+    public void setUp() {
+        Logger logger = (Logger) LoggerFactory.getLogger(LoggingFilter.class);
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.setLevel(captureBodies ? Level.DEBUG : Level.INFO);
+
+        filter = new LoggingFilter(captureBodies, 4096, 0.0, true, Duration.ofSeconds(2));
+        requestBody = ("{\"image\":\"" + BenchmarkData.base64Image(bodyChars) + "\"}").getBytes(StandardCharsets.UTF_8);
+        byte[] responseBody = BenchmarkData.interaction(1024).getResponse().getBytes(StandardCharsets.UTF_8);
+        chain = (request, response) -> {
+            request.getInputStream().readAllBytes();
+            response.getOutputStream().write(responseBody);
+        };
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/ai-agents/1/users/1/describe-image");
+        request.setContent(requestBody);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
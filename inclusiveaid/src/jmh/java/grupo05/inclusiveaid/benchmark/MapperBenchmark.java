@@ -0,0 +1,115 @@
+package grupo05.inclusiveaid.benchmark;
+
+import grupo05.inclusiveaid.dto.AIAgentDTO;
+import grupo05.inclusiveaid.dto.LayoutAnalysisDTO;
+import grupo05.inclusiveaid.dto.UserDTO;
+import grupo05.inclusiveaid.entity.AIAgent;
+import grupo05.inclusiveaid.entity.LayoutAnalysis;
+import grupo05.inclusiveaid.entity.User;
+import grupo05.inclusiveaid.mapper.AIAgentMapper;
+import grupo05.inclusiveaid.mapper.LayoutAnalysisMapper;
+import grupo05.inclusiveaid.mapper.LayoutAnalysisMapperImpl;
+import grupo05.inclusiveaid.mapper.UserMapper;
+import grupo05.inclusiveaid.mapper.UserMapperImpl;
+import grupo05.inclusiveaid.service.impl.AIAgentServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Conversão entidade → DTO: mappers gerados pelo MapStruct ({@link UserMapper},
+ * {@link LayoutAnalysisMapper}) comparados ao {@link AIAgentMapper} escrito à mão
+ * e ao mapeamento privado de {@link AIAgentServiceImpl}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    /**
+     * Acesso ao mapToDTO(agent, activeUserIds) privado do serviço, resolvido uma vez para permitir
+     * a otimização pelo JIT. Os ids dos usuários ativos são carregados pelo serviço em uma consulta
+     * agrupada, fora do mapeamento, e aqui são montados uma vez no setup.
+     */
+    private static final MethodHandle SERVICE_MAP_TO_DTO;
+
+    static {
+        try {
+            SERVICE_MAP_TO_DTO = MethodHandles.privateLookupIn(AIAgentServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(AIAgentServiceImpl.class, "mapToDTO", MethodType.methodType(AIAgentDTO.class, AIAgent.class, Set.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"10", "500"})
+    private int activeUsers;
+
+    private final UserMapper userMapper = new UserMapperImpl();
+    private final LayoutAnalysisMapper layoutAnalysisMapper = new LayoutAnalysisMapperImpl();
+    private final AIAgentMapper aiAgentMapper = new AIAgentMapper();
+    private AIAgentServiceImpl agentService;
+
+    private User user;
+    private UserDTO userDto;
+    private LayoutAnalysis layoutAnalysis;
+    private AIAgent agent;
+    private Set<Long> activeUserIds;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // mapToDTO(agent, activeUserIds) não usa dependências do serviço
+        Constructor<?> constructor = AIAgentServiceImpl.class.getDeclaredConstructors()[0];
+        agentService = (AIAgentServiceImpl) constructor.newInstance(new Object[constructor.getParameterCount()]);
+
+        user = BenchmarkData.user(1L);
+        userDto = userMapper.toDto(user);
+        layoutAnalysis = BenchmarkData.layoutAnalysis();
+        agent = BenchmarkData.agent(activeUsers, 10);
+        activeUserIds = agent.getActiveUsers().stream().map(User::getId).collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public UserDTO userMapperToDto() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public User userMapperToEntity() {
+        return userMapper.toEntity(userDto);
+    }
+
+    @Benchmark
+    public LayoutAnalysisDTO layoutAnalysisMapperToDto() {
+        return layoutAnalysisMapper.toDto(layoutAnalysis);
+    }
+
+    @Benchmark
+    public AIAgentDTO aiAgentMapperToDto() {
+        return aiAgentMapper.toDTO(agent);
+    }
+
+    @Benchmark
+    public AIAgentDTO agentServiceMapToDto() throws Throwable {
+        return (AIAgentDTO) SERVICE_MAP_TO_DTO.invokeExact(agentService, agent, activeUserIds);
+    }
+}
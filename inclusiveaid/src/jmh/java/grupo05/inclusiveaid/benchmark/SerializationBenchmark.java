@@ -0,0 +1,72 @@
+package grupo05.inclusiveaid.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import grupo05.inclusiveaid.dto.AIAgentDTO;
+import grupo05.inclusiveaid.dto.AgentInteractionDTO;
+import grupo05.inclusiveaid.dto.UserDTO;
+import grupo05.inclusiveaid.mapper.AIAgentMapper;
+import grupo05.inclusiveaid.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson dos maiores DTOs da API: interações com imagens em
+ * base64, agentes com muitos usuários ativos e usuários.
+ * O ObjectMapper segue a configuração do Spring Boot (módulos registrados e
+ * datas em ISO-8601).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1024", "65536"})
+    private int payloadChars;
+
+    private ObjectMapper objectMapper;
+    private AgentInteractionDTO interaction;
+    private AIAgentDTO agent;
+    private UserDTO user;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        interaction = BenchmarkData.interaction(payloadChars);
+        agent = new AIAgentMapper().toDTO(BenchmarkData.agent(500, 10));
+        user = new UserMapperImpl().toDto(BenchmarkData.user(1L));
+    }
+
+    @Benchmark
+    public byte[] agentInteraction() throws Exception {
+        return objectMapper.writeValueAsBytes(interaction);
+    }
+
+    @Benchmark
+    public byte[] aiAgent() throws Exception {
+        return objectMapper.writeValueAsBytes(agent);
+    }
+
+    @Benchmark
+    public byte[] user() throws Exception {
+        return objectMapper.writeValueAsBytes(user);
+    }
+}
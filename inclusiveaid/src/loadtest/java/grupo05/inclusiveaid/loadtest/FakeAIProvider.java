@@ -0,0 +1,135 @@
+package grupo05.inclusiveaid.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provedor de IA falso, compatível com o formato de resposta de completions da OpenAI
+ * ({@code {"choices":[{"text":"..."}]}}), para testes de carga sem chamadas externas.
+ *
+ * A latência segue uma distribuição log-normal definida pela mediana e pelo p99,
+ * o que reproduz a cauda longa típica de provedores de IA. Uma fração das chamadas
+ * falha com HTTP 500, e o tamanho do texto retornado é configurável.
+ *
+ * Requisições com {@code "stream":true} recebem o texto em Server-Sent Events,
+ * em {@link #STREAM_CHUNKS} trechos distribuídos ao longo da latência sorteada.
+ */
+final class FakeAIProvider implements AutoCloseable {
+
+    /** Quantil 0,99 da normal padrão, usado para derivar o desvio da log-normal a partir do p99. */
+    private static final double Z_99 = 2.3263;
+
+    /** Número de eventos em que o texto é dividido nas respostas em streaming. */
+    static final int STREAM_CHUNKS = 10;
+
+    private final HttpServer server;
+    private final double medianMillis;
+    private final double sigma;
+    private final double errorRate;
+    private final String responseText;
+    private final byte[] responseBody;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    FakeAIProvider(int port, Duration latencyMedian, Duration latencyP99, double errorRate, int responseChars)
+            throws IOException {
+        this.medianMillis = latencyMedian.toNanos() / 1_000_000.0;
+        double p99Millis = Math.max(latencyP99.toNanos() / 1_000_000.0, medianMillis);
+        this.sigma = medianMillis > 0 ? Math.log(p99Millis / medianMillis) / Z_99 : 0;
+        this.errorRate = errorRate;
+        this.responseText = "a".repeat(Math.max(1, responseChars));
+        this.responseBody = choice(responseText).getBytes(StandardCharsets.UTF_8);
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    String completionsUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/completions";
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long failures() {
+        return failures.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            boolean stream = new String(body.readAllBytes(), StandardCharsets.UTF_8).contains("\"stream\":true");
+            requests.incrementAndGet();
+            double latency = sampleLatencyMillis();
+
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                sleep(latency);
+                failures.incrementAndGet();
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            if (stream) {
+                stream(exchange, latency);
+                return;
+            }
+            sleep(latency);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseBody.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(responseBody);
+            }
+        }
+    }
+
+    private void stream(HttpExchange exchange, double latencyMillis) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        int chunkSize = (responseText.length() + STREAM_CHUNKS - 1) / STREAM_CHUNKS;
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int start = 0; start < responseText.length(); start += chunkSize) {
+                sleep(latencyMillis / STREAM_CHUNKS);
+                String chunk = responseText.substring(start, Math.min(responseText.length(), start + chunkSize));
+                out.write(("data: " + choice(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String choice(String text) {
+        return "{\"choices\":[{\"text\":\"" + text + "\"}]}";
+    }
+
+    private double sampleLatencyMillis() {
+        if (medianMillis <= 0) {
+            return 0;
+        }
+        return medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+
+    private static void sleep(double millis) {
+        try {
+            Thread.sleep(Duration.ofNanos((long) (millis * 1_000_000)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
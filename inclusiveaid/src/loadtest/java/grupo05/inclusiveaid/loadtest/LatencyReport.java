@@ -0,0 +1,69 @@
+package grupo05.inclusiveaid.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro de latências por operação em histogramas HDR, com contagem de erros
+ * (status HTTP diferente de 2xx ou falha de conexão) e de respostas degradadas
+ * (interação registrada como mal-sucedida, por exemplo quando o circuito está aberto).
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private static final class Stats {
+        final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder degraded = new LongAdder();
+    }
+
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final Stats total = new Stats();
+
+    LatencyReport(Iterable<Workload.Operation> operations) {
+        for (Workload.Operation operation : operations) {
+            stats.put(operation.name, new Stats());
+        }
+    }
+
+    void record(String operation, long latencyNanos, boolean error, boolean degraded) {
+        long micros = Math.min(Math.max(1, latencyNanos / 1_000), HIGHEST_TRACKABLE_MICROS);
+        for (Stats s : new Stats[] {stats.get(operation), total}) {
+            s.histogram.recordValue(micros);
+            if (error) {
+                s.errors.increment();
+            }
+            if (degraded) {
+                s.degraded.increment();
+            }
+        }
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf("%n%-20s %8s %7s %8s %9s %9s %9s %9s %9s%n",
+            "operation", "count", "errors", "degraded", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        stats.forEach((name, s) -> printLine(out, name, s, seconds));
+        printLine(out, "TOTAL", total, seconds);
+    }
+
+    private static void printLine(PrintStream out, String name, Stats s, double seconds) {
+        Histogram h = s.histogram;
+        out.printf("%-20s %8d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+            name, h.getTotalCount(), s.errors.sum(), s.degraded.sum(), h.getTotalCount() / seconds,
+            millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+            millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,227 @@
+package grupo05.inclusiveaid.loadtest;
+
+import grupo05.inclusiveaid.InclusiveaidApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Teste de carga ponta a ponta da aplicação.
+ *
+ * Sobe a aplicação no próprio processo (porta aleatória, banco H2 recriado) apontando
+ * o cliente de IA para o {@link FakeAIProvider}, cadastra os dados mínimos pela API
+ * e executa a mistura de operações do {@link Workload}, primeiro em aquecimento
+ * e depois em medição. Ao final imprime vazão e latências p50/p99/p999 por operação.
+ *
+ * Dois modos de carga:
+ * - fechado (padrão): {@code loadtest.concurrency} clientes enviam requisições em sequência;
+ * - aberto: com {@code loadtest.rate} > 0, as requisições são disparadas a uma taxa fixa
+ *   e a latência é medida a partir do instante planejado, evitando a omissão coordenada.
+ *
+ * Os parâmetros são passados como {@code --loadtest.<nome>=<valor>}; veja {@link #DEFAULTS}.
+ * Com {@code loadtest.target} a carga é enviada a uma instância já em execução, sem
+ * subir a aplicação nem o provedor falso.
+ */
+public final class LoadTestRunner {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+        Map.entry("target", ""),
+        Map.entry("duration", "30s"),
+        Map.entry("warmup", "10s"),
+        Map.entry("concurrency", "32"),
+        Map.entry("rate", "0"),
+        Map.entry("ai-share", "0.3"),
+        Map.entry("distinct-payloads", "200"),
+        Map.entry("image-chars", "4096"),
+        Map.entry("provider.port", "0"),
+        Map.entry("provider.latency-median", "300ms"),
+        Map.entry("provider.latency-p99", "2s"),
+        Map.entry("provider.error-rate", "0.01"),
+        Map.entry("provider.response-chars", "800"));
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final Map<String, String> options;
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    private LoadTestRunner(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            if (arg.startsWith("--loadtest.") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring("--loadtest.".length(), eq), arg.substring(eq + 1));
+            }
+        }
+        new LoadTestRunner(options).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        String target = options.get("target");
+        if (!target.isBlank()) {
+            execute(target);
+            return;
+        }
+        try (FakeAIProvider provider = new FakeAIProvider(
+                intOption("provider.port"),
+                durationOption("provider.latency-median"),
+                durationOption("provider.latency-p99"),
+                Double.parseDouble(options.get("provider.error-rate")),
+                intOption("provider.response-chars"));
+             ConfigurableApplicationContext context = startApplication(provider)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            execute("http://127.0.0.1:" + port);
+            System.out.printf("%nprovider: %d calls, %d injected failures%n", provider.requests(), provider.failures());
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(FakeAIProvider provider) {
+        // O reinício do devtools relançaria este main com os argumentos da aplicação
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return SpringApplication.run(InclusiveaidApplication.class,
+            "--server.port=0",
+            "--openai.enabled=true",
+            "--openai.api.url=" + provider.completionsUrl(),
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.sql.init.mode=never",
+            "--app.rate-limit.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.grupo05.inclusiveaid=WARN",
+            "--logging.level.org.hibernate.SQL=WARN");
+    }
+
+    private void execute(String baseUrl) throws Exception {
+        long userId = seedUser(baseUrl);
+        long agentId = seedAgent(baseUrl);
+        Workload workload = Workload.standard(baseUrl, agentId, userId,
+            Double.parseDouble(options.get("ai-share")),
+            intOption("distinct-payloads"),
+            intOption("image-chars"));
+
+        System.out.printf("load test against %s (agent %d, user %d): %s%n", baseUrl, agentId, userId, describeMode());
+        runPhase(workload, durationOption("warmup"));
+        LatencyReport report = runPhase(workload, durationOption("duration"));
+        report.print(System.out, durationOption("duration"));
+    }
+
+    private String describeMode() {
+        double rate = Double.parseDouble(options.get("rate"));
+        return rate > 0
+            ? String.format("open loop at %.0f req/s", rate)
+            : "closed loop with " + options.get("concurrency") + " clients";
+    }
+
+    private LatencyReport runPhase(Workload workload, Duration duration) throws InterruptedException {
+        LatencyReport report = new LatencyReport(workload.operations());
+        if (duration.isZero()) {
+            return report;
+        }
+        double rate = Double.parseDouble(options.get("rate"));
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (rate > 0) {
+                long interval = (long) (1e9 / rate);
+                for (long intended = System.nanoTime(); intended < deadline; intended += interval) {
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    long start = intended;
+                    executor.submit(() -> send(workload, report, start));
+                }
+            } else {
+                for (int i = 0; i < intOption("concurrency"); i++) {
+                    executor.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            send(workload, report, System.nanoTime());
+                        }
+                    });
+                }
+            }
+        }
+        return report;
+    }
+
+    private void send(Workload workload, LatencyReport report, long startNanos) {
+        Workload.Operation operation = workload.next();
+        boolean error;
+        boolean degraded = false;
+        try {
+            HttpResponse<String> response = client.send(workload.request(operation), HttpResponse.BodyHandlers.ofString());
+            error = response.statusCode() / 100 != 2;
+            degraded = operation.ai && !error && response.body().contains("\"successful\":false");
+        } catch (Exception e) {
+            error = true;
+        }
+        report.record(operation.name, System.nanoTime() - startNanos, error, degraded);
+    }
+
+    private long seedUser(String baseUrl) throws Exception {
+        long roleId = create(baseUrl + "/api/roles", "{\"name\":\"ROLE_LOADTEST\"}");
+        String email = "loadtest-" + System.currentTimeMillis() + "@inclusiveaid.local";
+        return create(baseUrl + "/api/usuarios", String.format(
+            "{\"name\":\"Load Test\",\"email\":\"%s\",\"password\":\"loadtest123\",\"roleId\":%d,"
+                + "\"disabilityTypeIds\":[],\"active\":true}", email, roleId));
+    }
+
+    private long seedAgent(String baseUrl) throws Exception {
+        return create(baseUrl + "/api/ai-agents",
+            "{\"name\":\"Load Test Agent\",\"version\":\"1.0.0\",\"active\":true,"
+                + "\"nlpConfig\":{\"languageModel\":\"gpt-3.5-turbo\",\"confidenceThreshold\":0.8,\"enableContextAwareness\":true},"
+                + "\"imageConfig\":{\"objectDetectionModel\":\"yolov5\",\"detectionThreshold\":0.7,\"enableOCR\":true},"
+                + "\"voiceConfig\":{\"speechRecognitionModel\":\"whisper\",\"recognitionThreshold\":0.75,\"enableNoiseReduction\":true}}");
+    }
+
+    private long create(String url, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ID.matcher(response.body());
+        if (response.statusCode() / 100 != 2 || !matcher.find()) {
+            throw new IllegalStateException("Falha ao cadastrar dados em " + url + ": "
+                + response.statusCode() + " " + response.body());
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private int intOption(String name) {
+        return Integer.parseInt(options.get(name));
+    }
+
+    private Duration durationOption(String name) {
+        String value = options.get(name).trim();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,129 @@
+package grupo05.inclusiveaid.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Mistura de operações executada pelo teste de carga: leituras CRUD e operações
+ * de IA do AIAgentController, escolhidas aleatoriamente segundo seus pesos.
+ *
+ * As entradas das operações de IA são sorteadas entre um número limitado de
+ * variações, de modo que a taxa de acerto do cache de respostas e da deduplicação
+ * de chamadas em andamento reflita o parâmetro distinct-payloads.
+ */
+final class Workload {
+
+    /**
+     * Operação do teste de carga.
+     */
+    static final class Operation {
+        final String name;
+        final boolean ai;
+        final double weight;
+        final Function<Integer, HttpRequest.Builder> request;
+
+        Operation(String name, boolean ai, double weight, Function<Integer, HttpRequest.Builder> request) {
+            this.name = name;
+            this.ai = ai;
+            this.weight = weight;
+            this.request = request;
+        }
+    }
+
+    private final List<Operation> operations = new ArrayList<>();
+    private final double[] cumulativeWeights;
+    private final int distinctPayloads;
+
+    private Workload(List<Operation> operations, int distinctPayloads) {
+        this.operations.addAll(operations);
+        this.distinctPayloads = distinctPayloads;
+        this.cumulativeWeights = new double[operations.size()];
+        double total = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            total += operations.get(i).weight;
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Mistura padrão: listagens e consultas CRUD e as operações de IA mais comuns.
+     *
+     * @param baseUrl URL base da aplicação (ex.: http://127.0.0.1:8080)
+     * @param agentId Agente usado nas operações de IA
+     * @param userId Usuário usado nas operações de IA
+     * @param aiShare Fração das requisições que são operações de IA (0 a 1)
+     * @param distinctPayloads Número de entradas distintas por operação de IA
+     * @param imageChars Tamanho, em caracteres base64, das imagens enviadas ao describe-image
+     */
+    static Workload standard(String baseUrl, long agentId, long userId, double aiShare,
+                             int distinctPayloads, int imageChars) {
+        String agentPath = baseUrl + "/api/ai-agents/" + agentId;
+        String interactionPath = agentPath + "/users/" + userId;
+        double crud = 1 - aiShare;
+        String image = base64Image(imageChars);
+
+        List<Operation> operations = List.of(
+            new Operation("crud-list-users", false, crud * 0.4,
+                i -> get(baseUrl + "/api/usuarios/slice?size=20")),
+            new Operation("crud-get-agent", false, crud * 0.3,
+                i -> get(agentPath)),
+            new Operation("crud-scroll-roles", false, crud * 0.3,
+                i -> get(baseUrl + "/api/roles/scroll?limit=20")),
+            new Operation("ai-voice-command", true, aiShare * 0.4,
+                i -> post(interactionPath + "/voice-command", "abrir menu de acessibilidade " + i)),
+            new Operation("ai-analyze-layout", true, aiShare * 0.35,
+                i -> post(interactionPath + "/analyze-layout",
+                    "{\"elements\":[{\"role\":\"button\",\"label\":\"Enviar " + i + "\",\"contrast\":3.1}]}")),
+            new Operation("ai-describe-image", true, aiShare * 0.25,
+                i -> post(interactionPath + "/describe-image", i + ":" + image)));
+        return new Workload(operations, distinctPayloads);
+    }
+
+    /**
+     * Sorteia a próxima operação segundo os pesos.
+     */
+    Operation next() {
+        double r = ThreadLocalRandom.current().nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    /**
+     * Cria a requisição HTTP da operação, com uma das variações de entrada.
+     */
+    HttpRequest request(Operation operation) {
+        int variant = ThreadLocalRandom.current().nextInt(Math.max(1, distinctPayloads));
+        return operation.request.apply(variant).build();
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static HttpRequest.Builder post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "text/plain;charset=UTF-8")
+            .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+    }
+
+    private static String base64Image(int chars) {
+        byte[] bytes = new byte[Math.max(3, chars * 3 / 4)];
+        new Random(42).nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
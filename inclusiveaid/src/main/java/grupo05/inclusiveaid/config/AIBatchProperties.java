@@ -0,0 +1,30 @@
+package grupo05.inclusiveaid.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propriedades das operações de IA em lote.
+ *
+ * O paralelismo limita quantas entradas do mesmo lote aguardam o provedor ao mesmo tempo;
+ * deve ficar abaixo de openai.bulkhead.max-concurrent-calls para que um único lote não
+ * ocupe o bulkhead do tipo de operação e faça as demais requisições serem degradadas.
+ *
+ * As propriedades são carregadas do arquivo de configuração da aplicação
+ * usando o prefixo "app.ai.batch".
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.ai.batch")
+public class AIBatchProperties {
+    /**
+     * Número máximo de entradas aceitas em um lote.
+     */
+    private int maxItems = 50;
+
+    /**
+     * Número máximo de chamadas simultâneas ao provedor por lote.
+     */
+    private int parallelism = 4;
+}
@@ -1,8 +1,15 @@
 package grupo05.inclusiveaid.config;
 
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,6 +24,12 @@ import java.time.Duration;
  * - Abre o circuito quando a taxa de falha excede o limiar
  * - Permite um número limitado de chamadas em estado semi-aberto
  * - Fecha o circuito após um período de espera
+ *
+ * Além do circuito, cada tipo de operação de IA possui um bulkhead próprio,
+ * que limita as chamadas simultâneas ao provedor e rejeita imediatamente o excedente.
+ *
+ * O estado do circuito, as taxas de falha e a ocupação dos bulkheads são publicados
+ * no Micrometer (resilience4j.circuitbreaker.* e resilience4j.bulkhead.*).
  */
 @Configuration
 public class AICircuitBreakerConfig {
@@ -34,10 +47,11 @@ public class AICircuitBreakerConfig {
      * - Aberto: bloqueia chamadas após muitas falhas
      * - Semi-aberto: permite algumas chamadas para testar recuperação
      * 
+     * @param meterRegistry Registro de métricas do Micrometer
      * @return Circuit Breaker configurado para serviços de IA
      */
     @Bean
-    public CircuitBreaker aiServiceCircuitBreaker() {
+    public CircuitBreaker aiServiceCircuitBreaker(MeterRegistry meterRegistry) {
         CircuitBreakerConfig config = CircuitBreakerConfig.custom()
                 .slidingWindowType(SlidingWindowType.COUNT_BASED)
                 .slidingWindowSize(10)
@@ -46,6 +60,37 @@ public class AICircuitBreakerConfig {
                 .permittedNumberOfCallsInHalfOpenState(5)
                 .build();
 
-        return CircuitBreaker.of("aiService", config);
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("aiService");
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return circuitBreaker;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Cria o registro de bulkheads das chamadas ao provedor de IA.
+     * Um bulkhead é obtido por tipo de operação (ex.: "ai-layout_analysis"),
+     * todos com a mesma configuração:
+     * - openai.bulkhead.max-concurrent-calls: chamadas simultâneas permitidas por operação
+     * - openai.bulkhead.max-wait: tempo máximo de espera por uma vaga (0 rejeita na hora)
+     *
+     * @param meterRegistry Registro de métricas do Micrometer
+     * @param maxConcurrentCalls Número máximo de chamadas simultâneas por operação
+     * @param maxWait Tempo máximo de espera por uma vaga
+     * @return Registro de bulkheads dos serviços de IA
+     */
+    @Bean
+    public BulkheadRegistry aiBulkheadRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${openai.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${openai.bulkhead.max-wait:0ms}") Duration maxWait) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        // Os bulkheads são criados sob demanda; as métricas acompanham as novas entradas do registro
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
@@ -0,0 +1,50 @@
+package grupo05.inclusiveaid.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache de respostas dos provedores externos de IA.
+ * As respostas são endereçadas pelo conteúdo da requisição (modelo, prompt
+ * e temperatura), de modo que requisições idênticas feitas por usuários
+ * diferentes reaproveitam a mesma resposta sem nova chamada remota.
+ *
+ * O cache é limitado por quantidade de entradas e por tempo de vida,
+ * e suas estatísticas (acertos, falhas e remoções) são publicadas no Micrometer.
+ */
+@Configuration
+public class AIResponseCacheConfig {
+
+    /**
+     * Cria o cache de respostas de IA.
+     * Configurações disponíveis:
+     * - openai.cache.maximum-size: número máximo de respostas armazenadas
+     * - openai.cache.ttl: tempo de vida de cada resposta após a escrita
+     *
+     * @param registry Registro de métricas do Micrometer
+     * @param maximumSize Número máximo de entradas
+     * @param ttl Tempo de vida das entradas
+     * @return Cache de respostas indexado pelo hash da requisição
+     */
+    @Bean
+    public Cache<String, String> aiResponseCache(
+            MeterRegistry registry,
+            @Value("${openai.cache.maximum-size:10000}") long maximumSize,
+            @Value("${openai.cache.ttl:10m}") Duration ttl) {
+        Cache<String, String> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // Mesmas chaves de tag dos caches do CacheManager, exigido pelo registro Prometheus
+        return CaffeineCacheMetrics.monitor(registry, cache, "aiResponses",
+                "cache.manager", "aiResponseCache", "name", "aiResponses");
+    }
+}
@@ -0,0 +1,51 @@
+package grupo05.inclusiveaid.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da geração de legendas em janelas.
+ *
+ * A transcrição não traz marcações de tempo, por isso a duração de cada janela
+ * é convertida em número de palavras pela taxa de fala (words-per-second).
+ * A sobreposição é enviada ao provedor apenas como contexto da janela seguinte,
+ * de modo que os textos gerados são concatenados sem repetição.
+ *
+ * O paralelismo segue a mesma regra de app.ai.batch.parallelism: deve ficar abaixo de
+ * openai.bulkhead.max-concurrent-calls.
+ *
+ * As propriedades são carregadas do arquivo de configuração da aplicação
+ * usando o prefixo "app.ai.subtitles".
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.ai.subtitles")
+public class AISubtitleProperties {
+    /**
+     * Duração de mídia coberta por cada janela.
+     */
+    private Duration window = Duration.ofSeconds(10);
+
+    /**
+     * Duração do trecho da janela anterior enviado como contexto.
+     */
+    private Duration overlap = Duration.ofSeconds(2);
+
+    /**
+     * Taxa de fala usada para converter duração em palavras.
+     */
+    private double wordsPerSecond = 2.5;
+
+    /**
+     * Número máximo de janelas processadas ao mesmo tempo.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Número máximo de janelas por transcrição.
+     */
+    private int maxWindows = 360;
+}
@@ -1,6 +1,6 @@
 package grupo05.inclusiveaid.config;
 
-import grupo05.inclusiveaid.repository.UserRepository;
+import grupo05.inclusiveaid.service.UserPrincipalService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,7 +9,6 @@ import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -22,30 +21,29 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * - Gerenciador de autenticação
  * - Codificador de senha
  * 
- * Utiliza injeção de dependência para acessar o repositório de usuários
- * e configura todos os componentes necessários para o processo de autenticação.
+ * Utiliza injeção de dependência para acessar os dados de autenticação
+ * dos usuários, servidos pelo cache "users", e configura todos os componentes necessários para o processo de autenticação.
  */
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
 
-    private final UserRepository userRepository;
+    private final UserPrincipalService userPrincipalService;
 
     /**
      * Configura o serviço de detalhes do usuário.
-     * Este serviço é responsável por carregar os dados do usuário do banco de dados
+     * Este serviço é responsável por carregar os dados do usuário
      * durante o processo de autenticação.
      * 
      * Implementação:
-     * - Busca o usuário pelo email no repositório
+     * - Busca a cópia imutável do usuário pelo email, através do cache "users"
      * - Lança exceção se o usuário não for encontrado
      * 
      * @return Serviço de detalhes do usuário configurado
      */
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
+        return userPrincipalService::loadPrincipal;
     }
 
     /**
@@ -0,0 +1,138 @@
+package grupo05.inclusiveaid.config;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wrapper de resposta que repassa o corpo diretamente ao cliente e guarda
+ * apenas uma cópia dos primeiros bytes (ou caracteres) escritos, até o limite
+ * informado. Diferente do {@code ContentCachingResponseWrapper}, não mantém a
+ * resposta inteira em memória nem exige a cópia do corpo ao final.
+ */
+class BodyCapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int limit;
+    private final ByteArrayOutputStream capturedBytes = new ByteArrayOutputStream();
+    private final StringBuilder capturedChars = new StringBuilder();
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BodyCapturingResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.limit = limit;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            // PrintWriter sobre um Writer não possui buffer próprio: nada fica retido no wrapper
+            writer = new PrintWriter(new CapturingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    /**
+     * Retorna a parte capturada do corpo da resposta.
+     * @return Corpo capturado, limitado ao número de bytes configurado
+     */
+    String getCapturedBody() {
+        if (!capturedChars.isEmpty()) {
+            return capturedChars.toString();
+        }
+        return capturedBytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private int remaining() {
+        return limit - capturedBytes.size() - capturedChars.length();
+    }
+
+    private final class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (remaining() > 0) {
+                capturedBytes.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            int captured = Math.min(len, remaining());
+            if (captured > 0) {
+                capturedBytes.write(b, off, captured);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+
+    private final class CapturingWriter extends Writer {
+
+        private final Writer delegate;
+
+        private CapturingWriter(Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            delegate.write(cbuf, off, len);
+            int captured = Math.min(len, remaining());
+            if (captured > 0) {
+                capturedChars.append(cbuf, off, captured);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -1,19 +1,28 @@
 package grupo05.inclusiveaid.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Configuração de cache para a aplicação InclusiveAID.
- * Esta classe configura o sistema de cache utilizando o ConcurrentMapCacheManager
- * do Spring, que armazena os dados em memória usando mapas concorrentes.
+ * Esta classe configura o sistema de cache utilizando o CaffeineCacheManager
+ * do Spring, com caches em memória limitados por tamanho e por tempo de vida.
  * 
  * O cache é utilizado para melhorar a performance da aplicação,
  * reduzindo a necessidade de acessos frequentes ao banco de dados
  * para dados que não mudam com frequência.
+ *
+ * Os caches registram estatísticas (recordStats), que o Spring Boot publica
+ * no Micrometer como cache.gets (hit/miss), cache.puts e cache.evictions.
  */
 @Configuration
 @EnableCaching
@@ -21,20 +30,32 @@ public class CacheConfig {
 
     /**
      * Configura o gerenciador de cache da aplicação.
-     * Define três caches principais:
+     * Cada cache declarado em app.cache.specs recebe sua própria especificação
+     * (maximumSize, expireAfterWrite, expireAfterAccess, refreshAfterWrite, recordStats).
+     * Os caches principais são:
      * - "agents": para armazenar agentes de IA
      * - "users": para armazenar dados de usuários
      * - "adaptations": para armazenar configurações de adaptação
+     *
+     * Caches com refreshAfterWrite precisam de um {@link NamedCacheLoader} registrado;
+     * caches não declarados são criados sob demanda com app.cache.default-spec.
      * 
-     * O ConcurrentMapCacheManager é thread-safe e adequado para
-     * aplicações com múltiplas threads acessando o cache simultaneamente.
-     * 
+     * @param properties Especificações dos caches
+     * @param loaders Carregadores disponíveis para renovação antecipada
      * @return Gerenciador de cache configurado
      */
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(java.util.Arrays.asList("agents", "users", "adaptations"));
+    public CacheManager cacheManager(CacheSpecProperties properties, ObjectProvider<NamedCacheLoader> loaders) {
+        Map<String, NamedCacheLoader> loadersByCache = loaders.stream()
+                .collect(Collectors.toMap(NamedCacheLoader::getCacheName, Function.identity()));
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(properties.getDefaultSpec());
+        properties.getSpecs().forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = Caffeine.from(spec);
+            NamedCacheLoader loader = loadersByCache.get(name);
+            cacheManager.registerCustomCache(name, loader != null ? builder.build(loader) : builder.build());
+        });
         return cacheManager;
     }
-} 
\ No newline at end of file
+}
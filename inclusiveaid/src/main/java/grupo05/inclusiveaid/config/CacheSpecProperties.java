@@ -0,0 +1,34 @@
+package grupo05.inclusiveaid.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Propriedades dos caches da aplicação InclusiveAID.
+ * Cada cache é descrito por uma especificação do Caffeine, no formato
+ * "maximumSize=1000,expireAfterWrite=10m,expireAfterAccess=5m,refreshAfterWrite=1m,recordStats".
+ *
+ * As propriedades são carregadas do arquivo de configuração da aplicação
+ * usando o prefixo "app.cache".
+ *
+ * @see CacheConfig
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+    /**
+     * Especificação aplicada aos caches criados sob demanda,
+     * isto é, sem uma entrada própria em {@link #specs}.
+     */
+    private String defaultSpec = "maximumSize=1000,expireAfterWrite=10m,recordStats";
+
+    /**
+     * Especificação de cada cache nomeado (ex.: app.cache.specs.agents=...).
+     */
+    private Map<String, String> specs = new LinkedHashMap<>();
+}
@@ -4,39 +4,76 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Filtro de logging para a aplicação InclusiveAID.
  * Este filtro intercepta todas as requisições HTTP e registra informações
- * detalhadas sobre a requisição e resposta, incluindo:
+ * sobre a requisição e resposta, incluindo:
  * - Método HTTP e URI
- * - Duração da requisição
- * - Corpo da requisição e resposta
+ * - Status e duração da requisição
+ * - Corpo da requisição e resposta (opcional, em nível de debug)
  * 
- * O filtro utiliza wrappers para permitir múltiplas leituras do corpo
- * da requisição e resposta, mantendo a funcionalidade original intacta.
+ * A captura de corpos tem custo de memória proporcional ao tamanho das
+ * requisições (ex.: imagens em base64), por isso só ocorre quando habilitada
+ * e com o nível debug ativo, e é limitada a um número máximo de bytes.
+ * Os corpos são registrados para uma amostra das requisições e, opcionalmente,
+ * para as requisições lentas ou que falharam.
+ *
+ * Configurações disponíveis:
+ * - app.logging.http.body-capture.enabled: habilita a captura dos corpos
+ * - app.logging.http.body-capture.max-bytes: bytes capturados de cada corpo
+ * - app.logging.http.body-capture.sample-rate: fração das requisições com corpos registrados
+ * - app.logging.http.body-capture.slow-or-failed: registra os corpos de requisições lentas ou com erro
+ * - app.logging.http.slow-threshold: duração a partir da qual a requisição é considerada lenta
  */
 @Slf4j
 @Component
 public class LoggingFilter extends OncePerRequestFilter {
 
+    private static final String START_TIME_ATTRIBUTE = LoggingFilter.class.getName() + ".START_TIME";
+    private static final String CAPTURE_ATTRIBUTE = LoggingFilter.class.getName() + ".CAPTURE";
+
+    private final boolean bodyCaptureEnabled;
+    private final int maxBodyBytes;
+    private final double sampleRate;
+    private final boolean logSlowOrFailed;
+    private final long slowThresholdNanos;
+
+    public LoggingFilter(
+            @Value("${app.logging.http.body-capture.enabled:false}") boolean bodyCaptureEnabled,
+            @Value("${app.logging.http.body-capture.max-bytes:4096}") int maxBodyBytes,
+            @Value("${app.logging.http.body-capture.sample-rate:0.01}") double sampleRate,
+            @Value("${app.logging.http.body-capture.slow-or-failed:true}") boolean logSlowOrFailed,
+            @Value("${app.logging.http.slow-threshold:2s}") Duration slowThreshold) {
+        this.bodyCaptureEnabled = bodyCaptureEnabled;
+        this.maxBodyBytes = maxBodyBytes;
+        this.sampleRate = sampleRate;
+        this.logSlowOrFailed = logSlowOrFailed;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
     /**
-     * Processa cada requisição HTTP, registrando informações detalhadas.
+     * Processa cada requisição HTTP, registrando suas informações.
      * Este método:
-     * 1. Envolve a requisição e resposta em wrappers para permitir múltiplas leituras
-     * 2. Mede o tempo de processamento da requisição
-     * 3. Registra informações básicas da requisição (método, URI, duração)
-     * 4. Registra o corpo da requisição e resposta em nível de debug
-     * 5. Garante que o corpo da resposta seja copiado de volta para a resposta original
+     * 1. Mede o tempo de processamento da requisição com {@link System#nanoTime()}
+     * 2. Decide se os corpos serão capturados (captura habilitada, nível debug e amostragem)
+     * 3. Registra informações básicas da requisição (método, URI, status, duração)
+     * 4. Registra os corpos capturados em nível de debug, se a requisição foi amostrada,
+     *    for lenta ou tiver falhado
      * 
      * @param request Requisição HTTP recebida
      * @param response Resposta HTTP a ser enviada
@@ -47,21 +84,81 @@ public class LoggingFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
             throws ServletException, IOException {
-        
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
 
-        long startTime = System.currentTimeMillis();
-        filterChain.doFilter(requestWrapper, responseWrapper);
-        long duration = System.currentTimeMillis() - startTime;
+        // Em um dispatch assíncrono o instante inicial e a captura da requisição original são reaproveitados
+        if (!isAsyncDispatch(request)) {
+            request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+            BodyCapture capture = startCapture(request, response);
+            if (capture != null) {
+                request.setAttribute(CAPTURE_ATTRIBUTE, capture);
+                request = capture.getRequest();
+                response = capture.getResponse();
+            }
+        }
 
-        String requestBody = new String(requestWrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
-        String responseBody = new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            // Processamento assíncrono em andamento: o log ocorre no dispatch final
+            if (failed || !isAsyncStarted(request)) {
+                logRequest(request, response, failed);
+            }
+        }
+    }
 
-        log.info("Request: {} {} - Duration: {}ms", request.getMethod(), request.getRequestURI(), duration);
-        log.debug("Request Body: {}", requestBody);
-        log.debug("Response Body: {}", responseBody);
+    /**
+     * Habilita o filtro também no dispatch assíncrono, para que respostas de
+     * controladores assíncronos sejam registradas com a duração total.
+     *
+     * @return false, o filtro é executado nos dispatches assíncronos
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 
-        responseWrapper.copyBodyToResponse();
+    private BodyCapture startCapture(HttpServletRequest request, HttpServletResponse response) {
+        if (!bodyCaptureEnabled || !log.isDebugEnabled()) {
+            return null;
+        }
+        boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        if (!sampled && !logSlowOrFailed) {
+            return null;
+        }
+        return new BodyCapture(
+                new ContentCachingRequestWrapper(request, maxBodyBytes),
+                new BodyCapturingResponseWrapper(response, maxBodyBytes),
+                sampled);
+    }
+
+    private void logRequest(HttpServletRequest request, HttpServletResponse response, boolean failed) {
+        long durationNanos = System.nanoTime() - (Long) request.getAttribute(START_TIME_ATTRIBUTE);
+        int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+
+        log.info("Request: {} {} - Status: {} - Duration: {}ms", request.getMethod(), request.getRequestURI(),
+                status, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+
+        BodyCapture capture = (BodyCapture) request.getAttribute(CAPTURE_ATTRIBUTE);
+        if (capture == null) {
+            return;
+        }
+        boolean slowOrFailed = durationNanos >= slowThresholdNanos || status >= 500;
+        if (capture.isSampled() || (logSlowOrFailed && slowOrFailed)) {
+            log.debug("Request Body: {}", new String(capture.getRequest().getContentAsByteArray(), StandardCharsets.UTF_8));
+            log.debug("Response Body: {}", capture.getResponse().getCapturedBody());
+        }
+    }
+
+    /**
+     * Wrappers de uma requisição cujos corpos estão sendo capturados.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class BodyCapture {
+        private final ContentCachingRequestWrapper request;
+        private final BodyCapturingResponseWrapper response;
+        private final boolean sampled;
     }
-} 
\ No newline at end of file
+}
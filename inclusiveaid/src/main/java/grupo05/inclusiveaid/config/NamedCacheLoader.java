@@ -0,0 +1,17 @@
+package grupo05.inclusiveaid.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+/**
+ * Carregador associado a um cache nomeado do {@link CacheConfig}.
+ * Quando um bean deste tipo existe para o cache, ele é construído como cache
+ * de carregamento, o que habilita a renovação antecipada (refreshAfterWrite):
+ * entradas antigas continuam sendo servidas enquanto o valor é recarregado em segundo plano.
+ */
+public interface NamedCacheLoader extends CacheLoader<Object, Object> {
+
+    /**
+     * @return nome do cache atendido por este carregador
+     */
+    String getCacheName();
+}
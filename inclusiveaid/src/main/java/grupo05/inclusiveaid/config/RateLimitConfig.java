@@ -1,12 +1,14 @@
 package grupo05.inclusiveaid.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
 /**
  * Configuração de limitação de taxa (Rate Limiting) para a aplicação InclusiveAID.
  * Esta classe implementa o controle de taxa de requisições para proteger
@@ -14,27 +16,52 @@ import java.time.Duration;
  * 
  * Utiliza a biblioteca Bucket4j para implementar o algoritmo Token Bucket,
  * que permite um número limitado de requisições em um determinado período.
+ *
+ * Cada cliente possui um bucket próprio por grupo de endpoints, de modo que
+ * um cliente que excede o limite não consome a cota dos demais. Os buckets
+ * ficam em um cache Caffeine limitado, cujo mapa interno é particionado e não
+ * exige um lock global, e são descartados após um período sem uso.
  */
 @Configuration
 public class RateLimitConfig {
 
     /**
-     * Cria um novo bucket para controle de taxa de requisições.
-     * Configura um limite de 100 requisições por minuto para cada cliente.
-     * 
+     * Cria o mapa de buckets por cliente.
+     * Configurações disponíveis:
+     * - app.rate-limit.max-keys: número máximo de buckets em memória
+     * - app.rate-limit.idle-timeout: tempo sem uso até o bucket ser descartado
+     *
+     * @param properties Propriedades de limitação de taxa
+     * @param registry Registro de métricas do Micrometer
+     * @return Cache de buckets indexado por grupo e cliente
+     */
+    @Bean
+    public Cache<String, Bucket> rateLimitBuckets(RateLimitProperties properties, MeterRegistry registry) {
+        Cache<String, Bucket> buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(registry, buckets, "rateLimitBuckets",
+                "cache.manager", "rateLimitBuckets", "name", "rateLimitBuckets");
+    }
+
+    /**
+     * Cria um novo bucket para um grupo de endpoints.
+     *
      * O algoritmo Token Bucket funciona da seguinte forma:
      * - Cada bucket tem uma capacidade máxima de tokens
      * - Tokens são adicionados a uma taxa constante
-     * - Cada requisição consome um token
-     * - Requisições são rejeitadas quando não há tokens disponíveis
-     * 
+     * - Cada requisição consome o custo do seu grupo em tokens
+     * - Requisições são rejeitadas quando não há tokens suficientes
+     *
+     * @param group Limite do grupo de endpoints
      * @return Bucket configurado para controle de taxa
      */
-    @Bean
-    public Bucket createNewBucket() {
-        Bandwidth limit = Bandwidth.simple(100, Duration.ofMinutes(1));
+    static Bucket newBucket(RateLimitProperties.Group group) {
+        Bandwidth limit = Bandwidth.simple(group.getCapacity(), group.getPeriod());
         return Bucket.builder()
                 .addLimit(limit)
                 .build();
     }
-} 
\ No newline at end of file
+}
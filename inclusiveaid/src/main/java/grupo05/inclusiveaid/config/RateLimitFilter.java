@@ -0,0 +1,119 @@
+package grupo05.inclusiveaid.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro de limitação de taxa por cliente.
+ *
+ * O cliente é identificado pelo usuário autenticado (definido pelo filtro JWT)
+ * ou, na ausência de autenticação, pelo endereço IP. Cada par grupo/cliente
+ * consome tokens do seu próprio bucket, e toda resposta de um endpoint limitado
+ * informa o estado da cota nos cabeçalhos:
+ * - X-RateLimit-Limit: capacidade do bucket
+ * - X-RateLimit-Remaining: tokens restantes
+ * - X-RateLimit-Reset: segundos até o bucket estar cheio novamente
+ * - Retry-After: segundos até haver tokens suficientes (apenas em respostas 429)
+ *
+ * Executa logo após a cadeia do Spring Security, para que o usuário autenticado
+ * já esteja disponível e requisições rejeitadas não passem pelos demais filtros.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final Cache<String, Bucket> rateLimitBuckets;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Map.Entry<String, RateLimitProperties.Group> group = findGroup(path);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Group limit = group.getValue();
+        Bucket bucket = rateLimitBuckets.get(group.getKey() + '|' + resolveClient(request),
+                key -> RateLimitConfig.newBucket(limit));
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(limit.getCost());
+
+        response.setHeader("X-RateLimit-Limit", String.valueOf(limit.getCapacity()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(toSeconds(probe.getNanosToWaitForReset())));
+
+        if (probe.isConsumed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        meterRegistry.counter("http.server.requests.rate_limited", "group", group.getKey()).increment();
+        log.debug("Rate limit exceeded for {} on group {}", resolveClient(request), group.getKey());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(probe.getNanosToWaitForRefill())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"status\":429,\"message\":\"Too many requests\",\"timestamp\":\""
+                + LocalDateTime.now() + "\"}");
+    }
+
+    private Map.Entry<String, RateLimitProperties.Group> findGroup(String path) {
+        for (Map.Entry<String, RateLimitProperties.Group> entry : properties.getGroups().entrySet()) {
+            for (String pattern : entry.getValue().getPatterns()) {
+                if (PATH_MATCHER.match(pattern, path)) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String resolveClient(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
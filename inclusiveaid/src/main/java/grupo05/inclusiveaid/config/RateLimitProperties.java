@@ -0,0 +1,74 @@
+package grupo05.inclusiveaid.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Propriedades da limitação de taxa por cliente.
+ *
+ * As requisições são classificadas em grupos de endpoints, avaliados na ordem
+ * em que aparecem na configuração; o primeiro grupo cujo padrão corresponde ao
+ * caminho da requisição é aplicado. Cada cliente possui um bucket próprio por grupo.
+ *
+ * As propriedades são carregadas do arquivo de configuração da aplicação
+ * usando o prefixo "app.rate-limit".
+ *
+ * @see RateLimitFilter
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+    /**
+     * Habilita o filtro de limitação de taxa.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Número máximo de buckets mantidos em memória (clientes x grupos).
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * Tempo sem acesso após o qual o bucket de um cliente é descartado.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Grupos de endpoints, indexados pelo nome (ex.: app.rate-limit.groups.ai.cost=10).
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /**
+     * Limite aplicado a um grupo de endpoints.
+     */
+    @Data
+    public static class Group {
+        /**
+         * Padrões de caminho (estilo Ant) que pertencem ao grupo.
+         */
+        private List<String> patterns = new ArrayList<>();
+
+        /**
+         * Quantidade de tokens do bucket, reposta integralmente a cada período.
+         */
+        private long capacity = 100;
+
+        /**
+         * Período de reposição dos tokens.
+         */
+        private Duration period = Duration.ofMinutes(1);
+
+        /**
+         * Tokens consumidos por requisição.
+         */
+        private long cost = 1;
+    }
+}
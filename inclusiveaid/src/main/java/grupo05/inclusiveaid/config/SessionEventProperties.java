@@ -0,0 +1,33 @@
+package grupo05.inclusiveaid.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do canal de eventos em tempo real das sessões (Server-Sent Events).
+ *
+ * O timeout encerra conexões esquecidas abertas; o EventSource do navegador
+ * reconecta sozinho. O limite de eventos pendentes protege a memória contra
+ * clientes lentos: ao ser excedido, a conexão do cliente é encerrada e ele
+ * precisa reconectar, sem atrasar os demais assinantes da sessão.
+ *
+ * As propriedades são carregadas do arquivo de configuração da aplicação
+ * usando o prefixo "app.sessions.events".
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sessions.events")
+public class SessionEventProperties {
+    /**
+     * Tempo máximo de uma conexão de eventos aberta.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Número máximo de eventos aguardando envio para um mesmo assinante.
+     */
+    private int maxPendingEvents = 256;
+}
@@ -0,0 +1,36 @@
+package grupo05.inclusiveaid.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da exportação de legendas em WebVTT e SRT.
+ *
+ * As legendas não têm duração própria: cada uma vai até o início da seguinte,
+ * limitada por max-cue-duration; a última dura max-cue-duration.
+ *
+ * As propriedades são carregadas do arquivo de configuração da aplicação
+ * usando o prefixo "app.subtitles.export".
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.subtitles.export")
+public class SubtitleExportProperties {
+    /**
+     * Número de linhas lidas do banco por vez pelo cursor da exportação.
+     */
+    private int fetchSize = 500;
+
+    /**
+     * Duração máxima de uma legenda no arquivo.
+     */
+    private Duration maxCueDuration = Duration.ofSeconds(5);
+
+    /**
+     * Tempo de cache (Cache-Control max-age) do arquivo de uma sessão encerrada.
+     */
+    private Duration maxAge = Duration.ofDays(1);
+}
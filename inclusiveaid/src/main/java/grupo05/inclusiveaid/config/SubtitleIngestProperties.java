@@ -0,0 +1,38 @@
+package grupo05.inclusiveaid.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da ingestão de legendas em streaming (NDJSON ou texto por linha).
+ *
+ * A fila entre a leitura da requisição e a gravação é limitada por queue-capacity:
+ * quando o banco fica lento a leitura do corpo é suspensa e o TCP repassa a
+ * contrapressão ao cliente, em vez de acumular linhas em memória. O flush-interval
+ * limita o atraso de gravação quando as linhas chegam devagar.
+ *
+ * As propriedades são carregadas do arquivo de configuração da aplicação
+ * usando o prefixo "app.subtitles.ingest".
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.subtitles.ingest")
+public class SubtitleIngestProperties {
+    /**
+     * Número máximo de legendas por batch JDBC.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Número máximo de legendas lidas e ainda não gravadas por stream.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * Tempo máximo entre a leitura de uma legenda e a gravação do seu lote.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+}
@@ -0,0 +1,39 @@
+package grupo05.inclusiveaid.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do reconhecimento local de comandos de voz.
+ *
+ * O dicionário (intenções, padrões e palavras ignoradas) é um arquivo JSON indicado
+ * por location, em qualquer formato aceito pelo ResourceLoader do Spring
+ * (ex.: "classpath:voice-intents.json", "file:/etc/inclusiveaid/voice-intents.json").
+ * A data de modificação do arquivo é verificada a cada reload-interval e o dicionário
+ * é recompilado quando ela muda; com zero, apenas o endpoint de recarga o atualiza.
+ *
+ * As propriedades são carregadas do arquivo de configuração da aplicação
+ * usando o prefixo "app.voice.intents".
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.voice.intents")
+public class VoiceIntentProperties {
+    /**
+     * Indica se os comandos de voz são reconhecidos localmente antes do provedor de IA.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Localização do dicionário de comandos.
+     */
+    private String location = "classpath:voice-intents.json";
+
+    /**
+     * Intervalo entre as verificações de modificação do dicionário.
+     */
+    private Duration reloadInterval = Duration.ofSeconds(30);
+}
@@ -1,22 +1,41 @@
 package grupo05.inclusiveaid.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.lang.NonNull;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Configuração web da aplicação InclusiveAID.
  * Esta classe configura aspectos gerais da aplicação web, incluindo:
  * - Configuração CORS (Cross-Origin Resource Sharing)
  * - Bean para RestTemplate para chamadas HTTP
+ * - Executor de threads virtuais para chamadas assíncronas a provedores de IA
  * - Bean para ObjectMapper para serialização/desserialização JSON
+ * - Open EntityManager in View, exceto nas interações com agentes de IA
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public WebConfig(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
     
     /**
      * Configura as regras de CORS para a aplicação.
@@ -41,16 +60,64 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(false);
     }
 
+    /**
+     * Registra o Open EntityManager in View (substituindo o registro automático,
+     * desativado por spring.jpa.open-in-view=false).
+     * 
+     * As interações com agentes de IA são excluídas: com o EntityManager aberto
+     * durante toda a requisição, a conexão JDBC obtida na fase de leitura ficaria
+     * retida enquanto se aguarda o provedor de IA. O mesmo vale para as conexões
+     * de eventos das sessões, que permanecem abertas por até app.sessions.events.timeout,
+     * para a ingestão de legendas em streaming, que dura enquanto o cliente enviar linhas,
+     * e para a exportação de legendas, escrita na resposta após o retorno do controlador.
+     * 
+     * @param registry Registro de interceptadores do Spring MVC
+     */
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns("/api/ai-agents/*/users/*/**", "/api/sessions/*/events",
+                        "/api/subtitles/sessions/*/stream", "/api/sessions/*/captions");
+    }
+
     /**
      * Cria um bean RestTemplate para realizar chamadas HTTP.
      * O RestTemplate é utilizado para comunicação com serviços externos
      * e APIs de terceiros.
      * 
+     * Utiliza o HttpClient do JDK, que mantém um pool de conexões keep-alive
+     * reutilizadas entre as chamadas, com timeouts de conexão e de leitura
+     * configuráveis (openai.http.connect-timeout e openai.http.read-timeout).
+     * 
+     * @param connectTimeout Tempo máximo para estabelecer a conexão
+     * @param readTimeout Tempo máximo de espera pela resposta
      * @return Instância configurada de RestTemplate
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            @Value("${openai.http.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${openai.http.read-timeout:60s}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Cria o executor utilizado nas chamadas assíncronas aos provedores de IA.
+     * Cada chamada é executada em uma thread virtual, de modo que a espera pela
+     * resposta remota não ocupa threads de plataforma nem threads do Tomcat.
+     * 
+     * @return Executor de threads virtuais
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService aiExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
     }
 
     /**
@@ -58,10 +125,15 @@ public class WebConfig implements WebMvcConfigurer {
      * O ObjectMapper é utilizado para serialização e desserialização
      * de objetos Java para/do formato JSON.
      * 
+     * É construído pelo builder do Spring Boot, que aplica as propriedades
+     * spring.jackson.* e registra os módulos disponíveis (ex.: java.time),
+     * necessários para os DTOs com LocalDateTime.
+     * 
+     * @param builder Builder configurado pelo Spring Boot
      * @return Instância configurada de ObjectMapper
      */
     @Bean
-    public ObjectMapper objectMapper() {
-        return new ObjectMapper();
+    public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.build();
     }
 }
@@ -1,7 +1,12 @@
 package grupo05.inclusiveaid.controller;
 
 import grupo05.inclusiveaid.dto.AIAgentDTO;
+import grupo05.inclusiveaid.dto.AIAgentSummaryDTO;
+import grupo05.inclusiveaid.dto.AIBatchRequest;
+import grupo05.inclusiveaid.dto.AIBatchResultDTO;
 import grupo05.inclusiveaid.dto.AgentInteractionDTO;
+import grupo05.inclusiveaid.dto.SubtitleGenerationResultDTO;
+import grupo05.inclusiveaid.enums.InteractionType;
 import grupo05.inclusiveaid.service.AIAgentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,10 +17,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controlador responsável pelo gerenciamento de agentes de IA no sistema InclusiveAID.
@@ -38,6 +48,10 @@ import java.util.List;
  * - Automatizar tarefas comuns para facilitar o uso do sistema
  * - Aprender e se adaptar com base nas interações dos usuários
  * 
+ * Os endpoints de interação ({@code /{agentId}/users/{userId}/*}) são assíncronos:
+ * a thread do Tomcat é liberada enquanto o provedor de IA processa a requisição,
+ * e a resposta é enviada quando o {@link CompletableFuture} é concluído.
+ * 
  * @author Grupo 05
  * @version 1.0
  */
@@ -197,16 +211,18 @@ public class AIAgentController {
     }
 
     /**
-     * Recupera a lista de todos os agentes de IA no sistema.
+     * Recupera uma página com os agentes de IA do sistema.
      * 
      * Este endpoint retorna informações básicas de todos os agentes cadastrados,
-     * independente de seu status atual.
+     * independente de seu status atual, em ordem de ID.
      * 
-     * @return ResponseEntity contendo a lista de agentes
+     * @param page Número da página (começa em 0)
+     * @param size Número de agentes por página
+     * @return ResponseEntity contendo a página de agentes
      */
     @Operation(
         summary = "Obter todos os agentes de IA",
-        description = "Recupera uma lista de todos os agentes de IA no sistema"
+        description = "Recupera uma página de agentes de IA do sistema"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -217,21 +233,28 @@ public class AIAgentController {
         )
     })
     @GetMapping
-    public ResponseEntity<List<AIAgentDTO>> getAllAgents() {
-        return ResponseEntity.ok(aiAgentService.getAllAgents());
+    public ResponseEntity<Page<AIAgentDTO>> getAllAgents(
+        @Parameter(description = "Número da página (começa em 0)")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Número de itens por página")
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(aiAgentService.getAllAgents(page, size));
     }
 
     /**
-     * Recupera a lista de agentes de IA ativos no sistema.
+     * Recupera uma página com os agentes de IA ativos no sistema.
      * 
      * Este endpoint retorna apenas os agentes que estão atualmente ativos e
      * disponíveis para interação com os usuários.
      * 
-     * @return ResponseEntity contendo a lista de agentes ativos
+     * @param page Número da página (começa em 0)
+     * @param size Número de agentes por página
+     * @return ResponseEntity contendo a página de agentes ativos
      */
     @Operation(
         summary = "Obter todos os agentes de IA ativos",
-        description = "Recupera uma lista de todos os agentes de IA atualmente ativos"
+        description = "Recupera uma página de agentes de IA atualmente ativos"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -242,8 +265,45 @@ public class AIAgentController {
         )
     })
     @GetMapping("/active")
-    public ResponseEntity<List<AIAgentDTO>> getActiveAgents() {
-        return ResponseEntity.ok(aiAgentService.getActiveAgents());
+    public ResponseEntity<Page<AIAgentDTO>> getActiveAgents(
+        @Parameter(description = "Número da página (começa em 0)")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Número de itens por página")
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(aiAgentService.getActiveAgents(page, size));
+    }
+
+    /**
+     * Recupera uma página de resumos dos agentes de IA.
+     * 
+     * Versão leve da listagem: traz apenas os dados básicos e a quantidade de
+     * usuários ativos de cada agente, sem configurações nem ids de usuários.
+     * 
+     * @param page Número da página (começa em 0)
+     * @param size Número de agentes por página
+     * @return ResponseEntity contendo a página de resumos
+     */
+    @Operation(
+        summary = "Obter resumo dos agentes de IA",
+        description = "Recupera uma página de agentes de IA com dados básicos e quantidade de usuários ativos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resumos recuperados com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = AIAgentSummaryDTO.class))
+        )
+    })
+    @GetMapping("/summary")
+    public ResponseEntity<Page<AIAgentSummaryDTO>> getAgentSummaries(
+        @Parameter(description = "Número da página (começa em 0)")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Número de itens por página")
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(aiAgentService.getAgentSummaries(page, size));
     }
 
     /**
@@ -275,7 +335,7 @@ public class AIAgentController {
         )
     })
     @PostMapping("/{agentId}/users/{userId}/voice-command")
-    public ResponseEntity<AgentInteractionDTO> processVoiceCommand(
+    public CompletableFuture<ResponseEntity<AgentInteractionDTO>> processVoiceCommand(
         @Parameter(description = "ID of the AI agent", required = true)
         @PathVariable Long agentId,
         @Parameter(description = "ID of the user", required = true)
@@ -283,7 +343,8 @@ public class AIAgentController {
         @Parameter(description = "Voice command to process", required = true)
         @RequestBody String command
     ) {
-        return ResponseEntity.ok(aiAgentService.processVoiceCommand(agentId, userId, command));
+        return aiAgentService.processVoiceCommandAsync(agentId, userId, command)
+            .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -315,7 +376,7 @@ public class AIAgentController {
         )
     })
     @PostMapping("/{agentId}/users/{userId}/analyze-layout")
-    public ResponseEntity<AgentInteractionDTO> analyzeLayout(
+    public CompletableFuture<ResponseEntity<AgentInteractionDTO>> analyzeLayout(
         @Parameter(description = "ID of the AI agent", required = true)
         @PathVariable Long agentId,
         @Parameter(description = "ID of the user", required = true)
@@ -323,7 +384,8 @@ public class AIAgentController {
         @Parameter(description = "Layout data to analyze", required = true)
         @RequestBody String layoutData
     ) {
-        return ResponseEntity.ok(aiAgentService.analyzeLayout(agentId, userId, layoutData));
+        return aiAgentService.analyzeLayoutAsync(agentId, userId, layoutData)
+            .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -356,7 +418,7 @@ public class AIAgentController {
         )
     })
     @PostMapping("/{agentId}/users/{userId}/generate-subtitle")
-    public ResponseEntity<AgentInteractionDTO> generateSubtitle(
+    public CompletableFuture<ResponseEntity<AgentInteractionDTO>> generateSubtitle(
         @Parameter(description = "ID of the AI agent", required = true)
         @PathVariable Long agentId,
         @Parameter(description = "ID of the user", required = true)
@@ -364,7 +426,59 @@ public class AIAgentController {
         @Parameter(description = "Audio text to generate subtitles for", required = true)
         @RequestBody String audioText
     ) {
-        return ResponseEntity.ok(aiAgentService.generateSubtitle(agentId, userId, audioText));
+        return aiAgentService.generateSubtitleAsync(agentId, userId, audioText)
+            .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Gera as legendas de uma transcrição longa em janelas, gravando-as em uma sessão.
+     * 
+     * A transcrição é dividida em janelas de app.ai.subtitles.window (estimadas pela
+     * taxa de fala), legendadas em paralelo. Cada janela é gravada como legenda da sessão
+     * e publicada em GET /api/sessions/{id}/events assim que ela e as anteriores estão
+     * prontas, sem aguardar o fim da transcrição. A resposta traz todas as legendas na ordem.
+     * 
+     * @param agentId ID do agente de IA
+     * @param userId ID do usuário
+     * @param sessionId ID da sessão que recebe as legendas
+     * @param transcript Texto transcrito do áudio
+     * @return ResponseEntity contendo as legendas gravadas e a contagem por resultado
+     * @throws ResourceNotFoundException se o agente, o usuário ou a sessão não for encontrado
+     * @throws ValidationException se a sessão estiver encerrada ou a transcrição exceder o limite de janelas
+     */
+    @Operation(
+        summary = "Gerar legendas em janelas para uma sessão",
+        description = "Divide a transcrição em janelas legendadas em paralelo e grava cada legenda na sessão assim que fica pronta"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Legendas geradas e gravadas na sessão",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = SubtitleGenerationResultDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Transcrição vazia ou acima do limite, ou sessão encerrada"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Agente de IA, usuário ou sessão não encontrado"
+        )
+    })
+    @PostMapping("/{agentId}/users/{userId}/sessions/{sessionId}/subtitles")
+    public CompletableFuture<ResponseEntity<SubtitleGenerationResultDTO>> generateSessionSubtitles(
+        @Parameter(description = "ID of the AI agent", required = true)
+        @PathVariable Long agentId,
+        @Parameter(description = "ID of the user", required = true)
+        @PathVariable Long userId,
+        @Parameter(description = "ID of the session", required = true)
+        @PathVariable Long sessionId,
+        @Parameter(description = "Audio transcript to generate subtitles for", required = true)
+        @RequestBody String transcript
+    ) {
+        return aiAgentService.generateSubtitlesAsync(agentId, userId, sessionId, transcript)
+            .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -396,7 +510,7 @@ public class AIAgentController {
         )
     })
     @PostMapping("/{agentId}/users/{userId}/describe-image")
-    public ResponseEntity<AgentInteractionDTO> describeImage(
+    public CompletableFuture<ResponseEntity<AgentInteractionDTO>> describeImage(
         @Parameter(description = "ID of the AI agent", required = true)
         @PathVariable Long agentId,
         @Parameter(description = "ID of the user", required = true)
@@ -404,7 +518,8 @@ public class AIAgentController {
         @Parameter(description = "Image data to describe", required = true)
         @RequestBody String imageData
     ) {
-        return ResponseEntity.ok(aiAgentService.describeImage(agentId, userId, imageData));
+        return aiAgentService.describeImageAsync(agentId, userId, imageData)
+            .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -436,7 +551,7 @@ public class AIAgentController {
         )
     })
     @PostMapping("/{agentId}/users/{userId}/adapt-layout")
-    public ResponseEntity<AgentInteractionDTO> adaptLayout(
+    public CompletableFuture<ResponseEntity<AgentInteractionDTO>> adaptLayout(
         @Parameter(description = "ID of the AI agent", required = true)
         @PathVariable Long agentId,
         @Parameter(description = "ID of the user", required = true)
@@ -444,7 +559,8 @@ public class AIAgentController {
         @Parameter(description = "Layout data to adapt", required = true)
         @RequestBody String layoutData
     ) {
-        return ResponseEntity.ok(aiAgentService.adaptLayout(agentId, userId, layoutData));
+        return aiAgentService.adaptLayoutAsync(agentId, userId, layoutData)
+            .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -476,7 +592,7 @@ public class AIAgentController {
         )
     })
     @PostMapping("/{agentId}/users/{userId}/automate-task")
-    public ResponseEntity<AgentInteractionDTO> automateTask(
+    public CompletableFuture<ResponseEntity<AgentInteractionDTO>> automateTask(
         @Parameter(description = "ID of the AI agent", required = true)
         @PathVariable Long agentId,
         @Parameter(description = "ID of the user", required = true)
@@ -484,7 +600,126 @@ public class AIAgentController {
         @Parameter(description = "Task description to automate", required = true)
         @RequestBody String taskDescription
     ) {
-        return ResponseEntity.ok(aiAgentService.automateTask(agentId, userId, taskDescription));
+        return aiAgentService.automateTaskAsync(agentId, userId, taskDescription)
+            .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Executa uma operação de IA para várias entradas em uma única requisição.
+     * 
+     * Este endpoint aplica o mesmo tipo de operação (por exemplo, descrição de imagens
+     * ou geração de legendas) a cada entrada, com paralelismo limitado, e registra todas
+     * as interações em um único batch JDBC. O resultado traz, na ordem das entradas,
+     * o sucesso ou a falha de cada uma.
+     * 
+     * @param agentId ID do agente de IA
+     * @param userId ID do usuário
+     * @param request Tipo de operação e entradas
+     * @return ResponseEntity contendo o resultado de cada entrada
+     * @throws ResourceNotFoundException se o agente ou usuário não for encontrado
+     */
+    @Operation(
+        summary = "Executar operação de IA em lote",
+        description = "Executa o mesmo tipo de operação de IA para várias entradas de um usuário"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote processado; o resultado de cada entrada indica sucesso ou falha",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = AIBatchResultDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Tipo de operação não suportado em lote ou lote acima do limite"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Agente de IA ou usuário não encontrado"
+        )
+    })
+    @PostMapping("/{agentId}/users/{userId}/batch")
+    public CompletableFuture<ResponseEntity<AIBatchResultDTO>> interactBatch(
+        @Parameter(description = "ID of the AI agent", required = true)
+        @PathVariable Long agentId,
+        @Parameter(description = "ID of the user", required = true)
+        @PathVariable Long userId,
+        @Parameter(description = "Operation type and inputs", required = true)
+        @Valid @RequestBody AIBatchRequest request
+    ) {
+        return aiAgentService.interactBatchAsync(agentId, userId, request.getType(), request.getInputs())
+            .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Executa uma operação de IA enviando a resposta em Server-Sent Events.
+     * 
+     * Cada trecho do texto gerado é enviado ao cliente assim que chega do provedor,
+     * em eventos "chunk" ({"text": "..."}); ao fim, a interação registrada é enviada
+     * em um evento "interaction" e o stream é encerrado. Se o provedor estiver
+     * indisponível, o evento "interaction" traz a resposta degradada.
+     * 
+     * @param agentId ID do agente de IA
+     * @param userId ID do usuário
+     * @param type Tipo de operação
+     * @param input Entrada da operação (comando, layout, texto ou imagem)
+     * @return Emissor dos eventos do stream
+     * @throws ResourceNotFoundException se o agente ou usuário não for encontrado
+     */
+    @Operation(
+        summary = "Executar operação de IA em streaming",
+        description = "Envia a resposta do agente de IA em Server-Sent Events, trecho a trecho"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream de eventos chunk seguido do evento interaction",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Tipo de operação não suportado em streaming"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Agente de IA ou usuário não encontrado"
+        )
+    })
+    @PostMapping("/{agentId}/users/{userId}/stream")
+    public SseEmitter interactStream(
+        @Parameter(description = "ID of the AI agent", required = true)
+        @PathVariable Long agentId,
+        @Parameter(description = "ID of the user", required = true)
+        @PathVariable Long userId,
+        @Parameter(description = "Operation type", required = true)
+        @RequestParam InteractionType type,
+        @Parameter(description = "Input of the operation", required = true)
+        @RequestBody String input
+    ) {
+        SseEmitter emitter = new SseEmitter();
+        aiAgentService.interactStreamAsync(agentId, userId, type, input,
+                chunk -> send(emitter, SseEmitter.event().name("chunk").data(Map.of("text", chunk), MediaType.APPLICATION_JSON)))
+            .whenComplete((interaction, error) -> {
+                if (error != null) {
+                    emitter.completeWithError(error);
+                    return;
+                }
+                send(emitter, SseEmitter.event().name("interaction").data(interaction, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            });
+        return emitter;
+    }
+
+    /**
+     * Envia um evento ao cliente. Se o cliente já desconectou, o evento é descartado:
+     * o stream do provedor segue até o fim para que a interação seja registrada.
+     */
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado ou stream já encerrado
+        }
     }
 
     /**
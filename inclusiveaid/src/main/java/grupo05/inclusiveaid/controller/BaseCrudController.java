@@ -1,9 +1,11 @@
 package grupo05.inclusiveaid.controller;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.service.CrudService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -45,6 +47,28 @@ public abstract class BaseCrudController<D> {
         return ResponseEntity.ok(service.listAll(page, size));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Listar recursos por cursor",
+               description = "Lista recursos em ordem de ID a partir de um cursor, sem total de registros")
+    public ResponseEntity<CursorPage<D>> scroll(
+            @Parameter(description = "Cursor retornado na página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Número de itens por página")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(service.listAfter(cursor, limit));
+    }
+
+    @GetMapping("/slice")
+    @Operation(summary = "Listar recursos em fatias",
+               description = "Lista recursos ordenados por ID, indicando apenas se há próxima fatia (sem total de registros)")
+    public ResponseEntity<Slice<D>> slice(
+            @Parameter(description = "Número da fatia (começa em 0)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Número de itens por fatia")
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(service.listSlice(page, size));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar recurso", description = "Atualiza um recurso existente")
     public ResponseEntity<D> update(@PathVariable Long id, @Validated @RequestBody D dto) {
@@ -1,5 +1,6 @@
 package grupo05.inclusiveaid.controller;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.LibrasTranslationDTO;
 import grupo05.inclusiveaid.service.LibrasTranslationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -156,6 +158,69 @@ public class LibrasTranslationController {
         return ResponseEntity.ok(service.listAll(page, size));
     }
 
+    /**
+     * Lista traduções em Libras por cursor, em ordem de ID e sem contagem total,
+     * com custo constante mesmo nas páginas mais profundas.
+     *
+     * @param cursor Cursor retornado na página anterior (omitir na primeira página)
+     * @param limit Quantidade de itens por página
+     * @return Página de traduções em Libras com o cursor da próxima página
+     */
+    @Operation(
+        summary = "Listar traduções em Libras por cursor",
+        description = "Recupera traduções em Libras em ordem de ID a partir de um cursor, sem total de registros"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página recuperada com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = CursorPage.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor ou limite inválido"
+        )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<LibrasTranslationDTO>> scroll(
+        @Parameter(description = "Cursor retornado na página anterior (omitir na primeira página)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Número de itens por página", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(service.listAfter(cursor, limit));
+    }
+
+    /**
+     * Lista traduções em Libras em fatias ordenadas por ID, sem a consulta de contagem total.
+     *
+     * @param page Número da fatia
+     * @param size Quantidade de itens por fatia
+     * @return Fatia de traduções em Libras com o indicador de próxima fatia
+     */
+    @Operation(
+        summary = "Listar traduções em Libras em fatias",
+        description = "Recupera traduções em Libras ordenados por ID, indicando apenas se há próxima fatia (sem total de registros)"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Fatia recuperada com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = Slice.class))
+        )
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<LibrasTranslationDTO>> slice(
+        @Parameter(description = "Número da fatia (começa em 0)", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Número de itens por fatia", example = "10")
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(service.listSlice(page, size));
+    }
+
     /**
      * Atualiza uma tradução em Libras existente.
      * 
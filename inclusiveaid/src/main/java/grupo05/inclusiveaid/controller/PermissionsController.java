@@ -1,5 +1,6 @@
 package grupo05.inclusiveaid.controller;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.PermissionsDTO;
 import grupo05.inclusiveaid.service.PermissionsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -166,6 +168,69 @@ public class PermissionsController {
         return ResponseEntity.ok(svc.listAll(page, size));
     }
 
+    /**
+     * Lista permissões por cursor, em ordem de ID e sem contagem total,
+     * com custo constante mesmo nas páginas mais profundas.
+     *
+     * @param cursor Cursor retornado na página anterior (omitir na primeira página)
+     * @param limit Quantidade de itens por página
+     * @return Página de permissões com o cursor da próxima página
+     */
+    @Operation(
+        summary = "Listar permissões por cursor",
+        description = "Recupera permissões em ordem de ID a partir de um cursor, sem total de registros"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página recuperada com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = CursorPage.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor ou limite inválido"
+        )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<PermissionsDTO>> scroll(
+        @Parameter(description = "Cursor retornado na página anterior (omitir na primeira página)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Número de itens por página", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(svc.listAfter(cursor, limit));
+    }
+
+    /**
+     * Lista permissões em fatias ordenadas por ID, sem a consulta de contagem total.
+     *
+     * @param page Número da fatia
+     * @param size Quantidade de itens por fatia
+     * @return Fatia de permissões com o indicador de próxima fatia
+     */
+    @Operation(
+        summary = "Listar permissões em fatias",
+        description = "Recupera permissões ordenados por ID, indicando apenas se há próxima fatia (sem total de registros)"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Fatia recuperada com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = Slice.class))
+        )
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<PermissionsDTO>> slice(
+        @Parameter(description = "Número da fatia (começa em 0)", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Número de itens por fatia", example = "10")
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(svc.listSlice(page, size));
+    }
+
     /**
      * Atualiza uma permissão existente.
      * 
@@ -1,7 +1,14 @@
 package grupo05.inclusiveaid.controller;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.SessionDTO;
+import grupo05.inclusiveaid.config.SubtitleExportProperties;
+import grupo05.inclusiveaid.enums.CaptionFormat;
+import grupo05.inclusiveaid.exception.ValidationException;
+import grupo05.inclusiveaid.service.ActiveSessionService;
+import grupo05.inclusiveaid.service.SessionEventService;
 import grupo05.inclusiveaid.service.SessionService;
+import grupo05.inclusiveaid.service.SubtitleExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,9 +18,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 
 /**
  * Controlador responsável pelo gerenciamento de sessões de usuários no sistema InclusiveAID.
@@ -37,6 +55,10 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Sessões", description = "APIs para gerenciamento de sessões de usuários no sistema AID")
 public class SessionController {
     private final SessionService svc;
+    private final ActiveSessionService activeSessions;
+    private final SessionEventService events;
+    private final SubtitleExportService exportService;
+    private final SubtitleExportProperties exportProperties;
 
     /**
      * Cria uma nova sessão para um usuário no sistema.
@@ -154,6 +176,221 @@ public class SessionController {
         return ResponseEntity.ok(svc.listAll(page, size));
     }
 
+    /**
+     * Lista sessões por cursor, em ordem de ID e sem contagem total,
+     * com custo constante mesmo nas páginas mais profundas.
+     *
+     * @param cursor Cursor retornado na página anterior (omitir na primeira página)
+     * @param limit Quantidade de itens por página
+     * @return Página de sessões com o cursor da próxima página
+     */
+    @Operation(
+        summary = "Listar sessões por cursor",
+        description = "Recupera sessões em ordem de ID a partir de um cursor, sem total de registros"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página recuperada com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = CursorPage.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor ou limite inválido"
+        )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<SessionDTO>> scroll(
+        @Parameter(description = "Cursor retornado na página anterior (omitir na primeira página)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Número de itens por página", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(svc.listAfter(cursor, limit));
+    }
+
+    /**
+     * Lista sessões em fatias ordenadas por ID, sem a consulta de contagem total.
+     *
+     * @param page Número da fatia
+     * @param size Quantidade de itens por fatia
+     * @return Fatia de sessões com o indicador de próxima fatia
+     */
+    @Operation(
+        summary = "Listar sessões em fatias",
+        description = "Recupera sessões ordenados por ID, indicando apenas se há próxima fatia (sem total de registros)"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Fatia recuperada com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = Slice.class))
+        )
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<SessionDTO>> slice(
+        @Parameter(description = "Número da fatia (começa em 0)", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Número de itens por fatia", example = "10")
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(svc.listSlice(page, size));
+    }
+
+    /**
+     * Inscreve o cliente nos eventos em tempo real de uma sessão ativa.
+     * 
+     * Substitui a consulta periódica de legendas: cada legenda criada ou atualizada
+     * é enviada em um evento "subtitle" e cada comando de voz vinculado à sessão em
+     * um evento "voice-command", com o DTO correspondente em JSON; legendas recebidas
+     * pela ingestão em streaming chegam em lotes, no evento "subtitles". Quando a sessão
+     * é encerrada ou excluída, um evento "session-ended" é enviado e a conexão é fechada.
+     * 
+     * @param id ID da sessão
+     * @return Emissor dos eventos da sessão
+     * @throws ResourceNotFoundException se a sessão não for encontrada
+     * @throws ValidationException se a sessão já estiver encerrada
+     */
+    @Operation(
+        summary = "Eventos da sessão em tempo real",
+        description = "Recebe por Server-Sent Events as novas legendas e comandos de voz da sessão"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream de eventos subtitle, subtitles, voice-command e session-ended",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Sessão já encerrada"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Sessão não encontrada"
+        )
+    })
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+        @Parameter(description = "ID da sessão", required = true)
+        @PathVariable Long id
+    ) {
+        if (!activeSessions.isActive(id))
+            throw new ValidationException("Session já encerrada");
+        return events.subscribe(id);
+    }
+
+    /**
+     * Registra o término de uma sessão, mantendo-a e às suas legendas no sistema.
+     * 
+     * Após o término a sessão não aceita novas legendas nem alterações nas existentes,
+     * e os clientes inscritos nos eventos da sessão recebem "session-ended".
+     * Chamadas repetidas mantêm o término original.
+     * 
+     * @param id ID da sessão a ser encerrada
+     * @return ResponseEntity contendo a sessão com a data/hora de término
+     * @throws ResourceNotFoundException se a sessão não for encontrada
+     */
+    @Operation(
+        summary = "Registrar término da sessão",
+        description = "Registra a data/hora de término da sessão, tornando suas legendas definitivas"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Sessão encerrada",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = SessionDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Sessão não encontrada"
+        )
+    })
+    @PostMapping("/{id}/end")
+    public ResponseEntity<SessionDTO> end(
+        @Parameter(description = "ID da sessão", required = true)
+        @PathVariable Long id
+    ) {
+        return ResponseEntity.ok(svc.end(id));
+    }
+
+    /**
+     * Exporta as legendas de uma sessão como arquivo WebVTT ou SRT.
+     * 
+     * O arquivo é gerado em streaming a partir do banco, em ordem de timestamp, com os
+     * tempos relativos ao início da sessão. Para sessões encerradas o arquivo é definitivo:
+     * a resposta traz ETag (término da sessão, quantidade e maior id das legendas), e
+     * requisições com If-None-Match recebem 304 após uma única contagem das legendas, sem
+     * lê-las. Não há Last-Modified: o término da sessão não cobre uma legenda gravada
+     * depois dele, e If-Modified-Since sozinho poderia receber 304 para um arquivo alterado.
+     * Para sessões ativas a resposta não deve ser reaproveitada.
+     * 
+     * @param id ID da sessão
+     * @param formatName Formato do arquivo (vtt ou srt)
+     * @param request Requisição, usada na verificação das pré-condições
+     * @return Arquivo de legendas em streaming, ou nulo quando respondido com 304
+     * @throws ValidationException se o formato não for suportado
+     * @throws ResourceNotFoundException se a sessão não for encontrada
+     */
+    @Operation(
+        summary = "Exportar legendas da sessão",
+        description = "Gera o arquivo WebVTT ou SRT das legendas da sessão; sessões encerradas aceitam requisições condicionais"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Arquivo de legendas",
+            content = {
+                @Content(mediaType = "text/vtt"),
+                @Content(mediaType = "application/x-subrip")
+            }
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Arquivo da sessão encerrada não modificado"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Formato não suportado"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Sessão não encontrada"
+        )
+    })
+    @GetMapping("/{id}/captions")
+    public ResponseEntity<StreamingResponseBody> captions(
+        @Parameter(description = "ID da sessão", required = true)
+        @PathVariable Long id,
+        @Parameter(description = "Formato do arquivo (vtt ou srt)", example = "vtt")
+        @RequestParam(name = "format", defaultValue = "vtt") String formatName,
+        WebRequest request
+    ) {
+        CaptionFormat format = CaptionFormat.from(formatName);
+        SessionDTO session = svc.getById(id);
+        Instant origin = session.getStartTime() != null ? Instant.parse(session.getStartTime()) : null;
+        CacheControl cacheControl = CacheControl.noCache();
+        if (session.getEndTime() != null) {
+            Instant endedAt = Instant.parse(session.getEndTime());
+            String eTag = "\"" + id + "-" + endedAt.toEpochMilli() + "-" + exportService.revision(id)
+                + "-" + format.getExtension() + "\"";
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            cacheControl = CacheControl.maxAge(exportProperties.getMaxAge()).cachePublic();
+        }
+        StreamingResponseBody body = out -> exportService.export(id, origin, format, out);
+        return ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.parseMediaType(format.getMediaType()), StandardCharsets.UTF_8))
+            .cacheControl(cacheControl)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename("session-" + id + "." + format.getExtension()).build().toString())
+            .body(body);
+    }
+
     /**
      * Encerra uma sessão ativa no sistema.
      * 
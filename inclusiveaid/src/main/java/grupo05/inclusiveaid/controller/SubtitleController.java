@@ -1,11 +1,25 @@
 package grupo05.inclusiveaid.controller;
 
 import grupo05.inclusiveaid.dto.SubtitleDTO;
+import grupo05.inclusiveaid.dto.SubtitleIngestResultDTO;
 import grupo05.inclusiveaid.service.SubtitleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 /**
  * Controlador responsável pelo gerenciamento de legendas de acessibilidade no sistema AID.
  * Fornece endpoints para criar, recuperar, listar, atualizar e excluir legendas para usuários com deficiência auditiva.
@@ -15,7 +29,59 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Legenda", description = "APIs para gerenciamento de legendas de acessibilidade no sistema AID")
 public class SubtitleController extends BaseCrudController<SubtitleDTO> {
 
+    private final SubtitleService subtitleService;
+
     public SubtitleController(SubtitleService service) {
         super(service);
+        this.subtitleService = service;
+    }
+
+    /**
+     * Recebe um stream de legendas de uma sessão, uma por linha.
+     * 
+     * Destinado à legendagem ao vivo: o corpo pode ser enviado com
+     * Transfer-Encoding chunked e é gravado à medida que chega, em batches.
+     * Em NDJSON cada linha é um objeto {"text": "..."}; em text/plain cada linha
+     * é o texto da legenda. O timestamp de cada legenda é o momento em que a linha
+     * foi recebida pelo servidor. Linhas inválidas são contadas como rejeitadas
+     * sem interromper o stream. Os assinantes dos eventos da sessão recebem cada
+     * lote gravado em um evento "subtitles".
+     * 
+     * @param sessionId ID da sessão
+     * @param request Requisição com o corpo em streaming
+     * @return Contagem de linhas recebidas, gravadas e rejeitadas
+     * @throws IOException se o corpo da requisição não puder ser aberto
+     * @throws ResourceNotFoundException se a sessão não for encontrada
+     * @throws ValidationException se a sessão já estiver encerrada ou o stream for interrompido
+     */
+    @Operation(
+        summary = "Ingerir legendas em streaming",
+        description = "Grava em batches um stream NDJSON ou text/plain de legendas de uma sessão"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream gravado",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = SubtitleIngestResultDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Sessão já encerrada ou stream interrompido"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Sessão não encontrada"
+        )
+    })
+    @PostMapping(value = "/sessions/{sessionId}/stream",
+        consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<SubtitleIngestResultDTO> ingest(
+        @Parameter(description = "ID da sessão", required = true)
+        @PathVariable Long sessionId,
+        HttpServletRequest request
+    ) throws IOException {
+        boolean json = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        return ResponseEntity.ok(subtitleService.ingest(sessionId, request.getReader(), json));
     }
 }
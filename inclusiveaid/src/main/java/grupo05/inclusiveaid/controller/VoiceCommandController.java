@@ -1,7 +1,11 @@
 package grupo05.inclusiveaid.controller;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.VoiceCommandDTO;
+import grupo05.inclusiveaid.dto.VoiceIntentDictionaryDTO;
+import grupo05.inclusiveaid.exception.ValidationException;
 import grupo05.inclusiveaid.service.VoiceCommandService;
+import grupo05.inclusiveaid.service.VoiceIntentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Comando de Voz", description = "APIs para gerenciamento de comandos de voz no sistema AID")
 public class VoiceCommandController {
     private final VoiceCommandService svc;
+    private final VoiceIntentService intents;
 
     /**
      * Cria um novo comando de voz no sistema.
@@ -127,6 +133,69 @@ public class VoiceCommandController {
         return ResponseEntity.ok(svc.listAll(page, size));
     }
 
+    /**
+     * Lista comandos de voz por cursor, em ordem de ID e sem contagem total,
+     * com custo constante mesmo nas páginas mais profundas.
+     *
+     * @param cursor Cursor retornado na página anterior (omitir na primeira página)
+     * @param limit Quantidade de itens por página
+     * @return Página de comandos de voz com o cursor da próxima página
+     */
+    @Operation(
+        summary = "Listar comandos de voz por cursor",
+        description = "Recupera comandos de voz em ordem de ID a partir de um cursor, sem total de registros"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página recuperada com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = CursorPage.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor ou limite inválido"
+        )
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<VoiceCommandDTO>> scroll(
+        @Parameter(description = "Cursor retornado na página anterior (omitir na primeira página)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Número de itens por página", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(svc.listAfter(cursor, limit));
+    }
+
+    /**
+     * Lista comandos de voz em fatias ordenadas por ID, sem a consulta de contagem total.
+     *
+     * @param page Número da fatia
+     * @param size Quantidade de itens por fatia
+     * @return Fatia de comandos de voz com o indicador de próxima fatia
+     */
+    @Operation(
+        summary = "Listar comandos de voz em fatias",
+        description = "Recupera comandos de voz ordenados por ID, indicando apenas se há próxima fatia (sem total de registros)"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Fatia recuperada com sucesso",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = Slice.class))
+        )
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<VoiceCommandDTO>> slice(
+        @Parameter(description = "Número da fatia (começa em 0)", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Número de itens por fatia", example = "10")
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(svc.listSlice(page, size));
+    }
+
     /**
      * Atualiza um comando de voz existente.
      *
@@ -207,4 +276,54 @@ public class VoiceCommandController {
         svc.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Consulta o dicionário de comandos de voz reconhecidos localmente.
+     *
+     * @return Estado do dicionário em uso
+     */
+    @Operation(
+        summary = "Consultar dicionário de comandos",
+        description = "Retorna a origem, o número de intenções e padrões e a data de carga do dicionário de comandos reconhecidos sem o provedor de IA"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Estado do dicionário",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = VoiceIntentDictionaryDTO.class))
+        )
+    })
+    @GetMapping("/intents")
+    public ResponseEntity<VoiceIntentDictionaryDTO> intents() {
+        return ResponseEntity.ok(intents.getDictionary());
+    }
+
+    /**
+     * Recarrega o dicionário de comandos de voz sem reiniciar a aplicação.
+     * Em caso de erro o dicionário anterior continua em uso.
+     *
+     * @return Estado do dicionário carregado
+     * @throws ValidationException se o arquivo não puder ser lido ou for inválido
+     */
+    @Operation(
+        summary = "Recarregar dicionário de comandos",
+        description = "Lê e recompila o dicionário de comandos de voz; em caso de erro o dicionário anterior é mantido"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Dicionário recarregado",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = VoiceIntentDictionaryDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dicionário inválido ou reconhecimento local desativado"
+        )
+    })
+    @PostMapping("/intents/reload")
+    public ResponseEntity<VoiceIntentDictionaryDTO> reloadIntents() {
+        return ResponseEntity.ok(intents.reload());
+    }
+}
@@ -0,0 +1,47 @@
+package grupo05.inclusiveaid.dto;
+
+import grupo05.inclusiveaid.config.ImageProcessingConfig;
+import grupo05.inclusiveaid.config.NLPConfig;
+import grupo05.inclusiveaid.config.VoiceProcessingConfig;
+import grupo05.inclusiveaid.entity.AIAgent;
+import lombok.Value;
+
+/**
+ * Cópia imutável da configuração de um agente de IA, utilizada nas interações.
+ * É mantida no cache "agents" e, por isso, não referencia a entidade nem
+ * as instâncias embutidas gerenciadas pelo JPA; as configurações são copiadas
+ * e não devem ser alteradas por quem as consome.
+ */
+@Value
+public class AIAgentConfigSnapshot {
+    Long id;
+    boolean active;
+    NLPConfig nlpConfig;
+    ImageProcessingConfig imageConfig;
+    VoiceProcessingConfig voiceConfig;
+
+    public static AIAgentConfigSnapshot from(AIAgent agent) {
+        return new AIAgentConfigSnapshot(
+            agent.getId(),
+            agent.isActive(),
+            copy(agent.getNlpConfig()),
+            copy(agent.getImageConfig()),
+            copy(agent.getVoiceConfig())
+        );
+    }
+
+    private static NLPConfig copy(NLPConfig config) {
+        return config == null ? null : new NLPConfig(
+            config.getLanguageModel(), config.getConfidenceThreshold(), config.isEnableContextAwareness());
+    }
+
+    private static ImageProcessingConfig copy(ImageProcessingConfig config) {
+        return config == null ? null : new ImageProcessingConfig(
+            config.getObjectDetectionModel(), config.getDetectionThreshold(), config.isEnableOCR());
+    }
+
+    private static VoiceProcessingConfig copy(VoiceProcessingConfig config) {
+        return config == null ? null : new VoiceProcessingConfig(
+            config.getSpeechRecognitionModel(), config.getRecognitionThreshold(), config.isEnableNoiseReduction());
+    }
+}
@@ -0,0 +1,25 @@
+package grupo05.inclusiveaid.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resumo de um agente de IA para listagens: dados básicos e a quantidade de
+ * usuários ativos, sem as configurações e sem o conjunto de ids de usuários.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIAgentSummaryDTO {
+    private Long id;
+    private String name;
+    private String version;
+    private boolean active;
+    private LocalDateTime lastUpdate;
+    private int activeUserCount;
+}
@@ -0,0 +1,22 @@
+package grupo05.inclusiveaid.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de uma entrada de um lote de IA, na mesma posição da entrada na requisição.
+ * Entradas atendidas com resposta degradada trazem a interação com successful=false;
+ * entradas que falharam trazem apenas a mensagem de erro e não são registradas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIBatchItemDTO {
+    private int index;
+    private boolean successful;
+    private AgentInteractionDTO interaction;
+    private String error;
+}
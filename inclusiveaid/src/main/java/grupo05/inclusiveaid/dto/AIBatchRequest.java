@@ -0,0 +1,27 @@
+package grupo05.inclusiveaid.dto;
+
+import grupo05.inclusiveaid.enums.InteractionType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Requisição de uma operação de IA em lote: o mesmo tipo de operação
+ * aplicado a várias entradas, para um único agente e usuário.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIBatchRequest {
+    @NotNull
+    private InteractionType type;
+
+    @NotEmpty
+    private List<@NotNull String> inputs;
+}
@@ -0,0 +1,27 @@
+package grupo05.inclusiveaid.dto;
+
+import grupo05.inclusiveaid.enums.InteractionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de uma operação de IA em lote, com o resultado de cada entrada
+ * e a contagem de entradas bem-sucedidas, degradadas e com falha.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIBatchResultDTO {
+    private Long agentId;
+    private Long userId;
+    private InteractionType type;
+    private int succeeded;
+    private int degraded;
+    private int failed;
+    private List<AIBatchItemDTO> items;
+}
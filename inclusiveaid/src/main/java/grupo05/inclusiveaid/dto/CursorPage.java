@@ -0,0 +1,82 @@
+package grupo05.inclusiveaid.dto;
+
+import grupo05.inclusiveaid.exception.ValidationException;
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de uma listagem por cursor (keyset).
+ * O cursor é opaco para o cliente: basta repassá-lo no parâmetro "cursor"
+ * para obter a página seguinte. Não há total de registros nem número de página.
+ *
+ * @param <T> Tipo dos itens
+ */
+@Value
+public class CursorPage<T> {
+    /** Tamanho máximo aceito para uma página. */
+    public static final int MAX_LIMIT = 1000;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    List<T> content;
+    String nextCursor;
+    boolean hasNext;
+
+    /**
+     * Converte os itens da página mantendo o cursor.
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, nextCursor, hasNext);
+    }
+
+    /**
+     * Monta a página a partir de até limit + 1 registros lidos em ordem de id.
+     */
+    public static <E> CursorPage<E> of(List<E> rows, int limit, Function<E, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(List.copyOf(rows), null, false);
+        }
+        List<E> content = List.copyOf(rows.subList(0, limit));
+        return new CursorPage<>(content, encode(idOf.apply(content.get(limit - 1))), true);
+    }
+
+    public static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    public static String encode(long id) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(id).array());
+    }
+
+    /**
+     * @return último id entregue, ou 0 para a primeira página
+     * @throws ValidationException se o cursor não tiver sido gerado por {@link #encode(long)}
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new IllegalArgumentException("unexpected cursor length");
+            }
+            long id = ByteBuffer.wrap(bytes).getLong();
+            if (id < 0) {
+                throw new IllegalArgumentException("negative cursor id");
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+    }
+}
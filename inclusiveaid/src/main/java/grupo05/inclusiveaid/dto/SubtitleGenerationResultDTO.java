@@ -0,0 +1,51 @@
+package grupo05.inclusiveaid.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO com o resultado da geração de legendas em janelas de uma transcrição.
+ * As legendas estão na ordem da transcrição, uma por janela.
+ *
+ * @author Grupo 05
+ * @version 1.0
+ */
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class SubtitleGenerationResultDTO {
+    /**
+     * Identificador do agente de IA.
+     */
+    private Long agentId;
+
+    /**
+     * Identificador do usuário.
+     */
+    private Long userId;
+
+    /**
+     * Identificador da sessão que recebeu as legendas.
+     */
+    private Long sessionId;
+
+    /**
+     * Número de janelas legendadas pelo provedor.
+     */
+    private int succeeded;
+
+    /**
+     * Número de janelas com o provedor indisponível, legendadas com o texto transcrito.
+     */
+    private int degraded;
+
+    /**
+     * Número de janelas que falharam, legendadas com o texto transcrito.
+     */
+    private int failed;
+
+    /**
+     * Legendas gravadas, uma por janela.
+     */
+    private List<SubtitleDTO> subtitles;
+}
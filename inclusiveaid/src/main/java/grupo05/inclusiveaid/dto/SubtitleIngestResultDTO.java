@@ -0,0 +1,38 @@
+package grupo05.inclusiveaid.dto;
+
+import lombok.*;
+
+/**
+ * DTO com o resultado da ingestão de legendas em streaming de uma sessão.
+ *
+ * @author Grupo 05
+ * @version 1.0
+ */
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class SubtitleIngestResultDTO {
+    /**
+     * Identificador da sessão que recebeu as legendas.
+     */
+    private Long sessionId;
+
+    /**
+     * Número de linhas não vazias recebidas no stream.
+     */
+    private int received;
+
+    /**
+     * Número de legendas gravadas.
+     */
+    private int written;
+
+    /**
+     * Número de linhas descartadas (JSON inválido, texto vazio ou recusado pelo banco).
+     */
+    private int rejected;
+
+    /**
+     * Número de batches JDBC executados.
+     */
+    private int batches;
+}
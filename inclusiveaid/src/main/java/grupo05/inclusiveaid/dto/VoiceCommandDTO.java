@@ -30,6 +30,13 @@ public class VoiceCommandDTO {
     @NotNull(groups = {Create.class, Update.class})
     private Long userId;
     
+    /**
+     * Identificador da sessão em que o comando foi capturado.
+     * Opcional; quando informado, a sessão deve estar ativa e o comando
+     * é publicado no canal de eventos da sessão.
+     */
+    private Long sessionId;
+    
     /**
      * Nível de confiança do reconhecimento (0.0 a 1.0).
      */
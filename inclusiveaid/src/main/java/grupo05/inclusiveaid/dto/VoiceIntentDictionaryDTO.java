@@ -0,0 +1,38 @@
+package grupo05.inclusiveaid.dto;
+
+import lombok.*;
+
+/**
+ * DTO com o estado do dicionário de comandos de voz reconhecidos localmente.
+ *
+ * @author Grupo 05
+ * @version 1.0
+ */
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class VoiceIntentDictionaryDTO {
+    /**
+     * Localização do arquivo do dicionário.
+     */
+    private String location;
+
+    /**
+     * Número de intenções carregadas.
+     */
+    private int intents;
+
+    /**
+     * Número de padrões distintos compilados.
+     */
+    private int patterns;
+
+    /**
+     * Número de palavras ignoradas na normalização.
+     */
+    private int fillers;
+
+    /**
+     * Data e hora do carregamento do dicionário (ISO-8601).
+     */
+    private String loadedAt;
+}
@@ -60,14 +60,14 @@ public class AgentInteraction {
      * Descrição da ação realizada pelo agente.
      * Detalha o que foi executado durante a interação.
      */
-    @Column(nullable = false)
+    @Column(nullable = false, columnDefinition = "TEXT")
     private String action;
 
     /**
      * Resposta ou resultado gerado pelo agente.
      * Registra o feedback ou resultado da ação realizada.
      */
-    @Column
+    @Column(columnDefinition = "TEXT")
     private String response;
 
     /**
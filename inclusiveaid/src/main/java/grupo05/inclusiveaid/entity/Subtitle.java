@@ -11,7 +11,7 @@ import java.time.Instant;
  * de áudio e diálogos em tempo real.
  */
 @Entity
-@Table(name = "subtitles")
+@Table(name = "subtitles", indexes = @Index(name = "idx_subtitles_session_timestamp", columnList = "session_id, timestamp"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Subtitle {
   /**
@@ -30,8 +30,10 @@ public class Subtitle {
 
   /**
    * Texto da legenda.
-   * Contém a transcrição do áudio ou diálogo.
+   * Contém a transcrição do áudio ou diálogo, ou o texto gerado pelo agente de IA
+   * para uma janela da transcrição.
    */
+  @Column(columnDefinition = "TEXT")
   private String text;
 
   /**
@@ -0,0 +1,51 @@
+package grupo05.inclusiveaid.enums;
+
+import grupo05.inclusiveaid.exception.ValidationException;
+import lombok.Getter;
+
+/**
+ * Formatos de arquivo de legendas disponíveis na exportação das sessões.
+ */
+@Getter
+public enum CaptionFormat {
+    /**
+     * WebVTT, formato nativo do elemento track do HTML5.
+     */
+    VTT("text/vtt", "vtt"),
+
+    /**
+     * SubRip, aceito pela maioria dos players de vídeo.
+     */
+    SRT("application/x-subrip", "srt");
+
+    /**
+     * Tipo de mídia do arquivo.
+     */
+    private final String mediaType;
+
+    /**
+     * Extensão do arquivo.
+     */
+    private final String extension;
+
+    CaptionFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * Obtém o formato pelo nome ou pela extensão, sem diferenciar maiúsculas.
+     *
+     * @param value Nome ou extensão do formato (ex.: "vtt", "SRT")
+     * @return Formato correspondente
+     * @throws ValidationException se o formato não for suportado
+     */
+    public static CaptionFormat from(String value) {
+        for (CaptionFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ValidationException("Formato de legenda não suportado: " + value);
+    }
+}
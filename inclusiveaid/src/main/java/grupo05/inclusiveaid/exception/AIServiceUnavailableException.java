@@ -0,0 +1,22 @@
+package grupo05.inclusiveaid.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o provedor externo de IA não pode atender a requisição.
+ * Esta exceção é mapeada para o status HTTP 503 (Service Unavailable) e cobre
+ * o circuito aberto, o bulkhead sem vagas, o timeout total e falhas da própria chamada.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class AIServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Construtor que cria uma nova exceção com uma mensagem e uma causa.
+     * @param message Mensagem detalhando o motivo da indisponibilidade
+     * @param cause Exceção original que causou esta exceção
+     */
+    public AIServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.security.access.AccessDeniedException;
@@ -214,6 +215,33 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * Manipula exceções de indisponibilidade do provedor de IA.
+     * Retorna uma resposta 503 (Service Unavailable) quando o circuito está aberto
+     * ou a chamada ao provedor falhou.
+     * @param ex Exceção lançada quando o provedor de IA está indisponível
+     * @return Resposta HTTP 503 com detalhes do erro
+     */
+    @ExceptionHandler(AIServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleAIServiceUnavailableException(AIServiceUnavailableException ex) {
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            ex.getMessage(),
+            LocalDateTime.now()
+        );
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Manipula a desconexão do cliente durante uma resposta assíncrona ou em streaming (SSE).
+     * Não há resposta a enviar, pois a conexão já foi encerrada.
+     * @param ex Exceção lançada quando o cliente desconecta
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleAsyncRequestNotUsableException(AsyncRequestNotUsableException ex) {
+        log.debug("Client disconnected: {}", ex.getMessage());
+    }
+
     /**
      * Manipula exceções genéricas não tratadas.
      * Retorna uma resposta 500 (Internal Server Error) para erros não mapeados.
@@ -10,9 +10,13 @@ import org.mapstruct.*;
 @Mapper(componentModel="spring")
 public interface SessionMapper {
   @Mapping(source="user.id",target="userId")
+  @Mapping(source="startedAt",target="startTime")
+  @Mapping(source="endedAt",target="endTime")
   SessionDTO toDto(Session e);
 
   @Mapping(target="id",ignore=true)
   @Mapping(source="userId",target="user.id")
+  @Mapping(source="startTime",target="startedAt")
+  @Mapping(source="endTime",target="endedAt")
   Session toEntity(SessionDTO dto);
 }
\ No newline at end of file
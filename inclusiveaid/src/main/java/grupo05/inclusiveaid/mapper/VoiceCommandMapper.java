@@ -12,6 +12,7 @@ public interface VoiceCommandMapper {
   @Mapping(target = "userId", ignore = true)
   @Mapping(target = "confidence", ignore = true)
   @Mapping(target = "status", ignore = true)
+  @Mapping(source = "session.id", target = "sessionId")
   VoiceCommandDTO toDto(VoiceCommand e);
 
   @Mapping(target="id",ignore=true)
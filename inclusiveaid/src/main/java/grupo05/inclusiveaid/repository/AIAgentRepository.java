@@ -1,12 +1,49 @@
 package grupo05.inclusiveaid.repository;
 
+import grupo05.inclusiveaid.dto.AIAgentSummaryDTO;
 import grupo05.inclusiveaid.entity.AIAgent;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface AIAgentRepository extends JpaRepository<AIAgent, Long> {
+public interface AIAgentRepository extends BaseRepository<AIAgent> {
     List<AIAgent> findByIsActive(boolean isActive);
     List<AIAgent> findByActiveUsersId(Long userId);
-} 
\ No newline at end of file
+
+    Page<AIAgent> findByIsActive(boolean isActive, Pageable pageable);
+
+    /**
+     * Par (agente, usuário ativo) lido diretamente da tabela de junção.
+     */
+    interface ActiveUserLink {
+        Long getAgentId();
+        Long getUserId();
+    }
+
+    /**
+     * Busca, em uma única consulta, os ids dos usuários ativos de vários agentes,
+     * sem carregar as entidades User.
+     *
+     * @param agentIds Ids dos agentes
+     * @return Pares (agente, usuário) dos agentes informados
+     */
+    @Query("select a.id as agentId, u.id as userId from AIAgent a join a.activeUsers u where a.id in :agentIds")
+    List<ActiveUserLink> findActiveUserLinks(@Param("agentIds") Collection<Long> agentIds);
+
+    /**
+     * Lista os agentes como resumo (dados básicos e quantidade de usuários ativos),
+     * sem configurações nem ids de usuários.
+     *
+     * @param pageable Página e tamanho desejados
+     * @return Página de resumos
+     */
+    @Query(value = "select new grupo05.inclusiveaid.dto.AIAgentSummaryDTO(a.id, a.name, a.version, a.isActive, a.lastUpdate, size(a.activeUsers))"
+            + " from AIAgent a",
+        countQuery = "select count(a) from AIAgent a")
+    Page<AIAgentSummaryDTO> findSummaries(Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package grupo05.inclusiveaid.repository;
+
+import grupo05.inclusiveaid.dto.CursorPage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Repositório base das entidades com chave primária Long.
+ * Acrescenta ao JpaRepository a listagem por cursor (keyset/seek): em vez de
+ * OFFSET e COUNT(*), a consulta parte do último id já entregue, usando o índice
+ * da chave primária, e tem custo constante mesmo nas páginas mais profundas.
+ * Acrescenta também a listagem em fatias (Slice), paginada sem a contagem total.
+ *
+ * @param <E> Entidade
+ */
+@NoRepositoryBean
+public interface BaseRepository<E> extends JpaRepository<E, Long> {
+
+    /**
+     * Busca as entidades com id maior que o informado, em ordem crescente de id.
+     *
+     * @param id Último id já entregue ao cliente
+     * @param limit Quantidade máxima de registros
+     * @return Entidades seguintes ao id informado
+     */
+    List<E> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Busca uma fatia de entidades. Diferente de findAll(Pageable), não executa
+     * SELECT COUNT(*): lê um registro a mais apenas para saber se há próxima fatia.
+     *
+     * @param pageable Página e tamanho desejados
+     * @return Fatia de entidades com o indicador hasNext
+     */
+    Slice<E> findAllBy(Pageable pageable);
+
+    /**
+     * Busca uma página por cursor. Um registro a mais é lido apenas para saber
+     * se existe uma próxima página; nenhuma consulta de contagem é executada.
+     *
+     * @param cursor Cursor opaco recebido na página anterior (nulo para a primeira página)
+     * @param limit Quantidade de registros por página
+     * @param idOf Função que obtém o id da entidade
+     * @return Página de entidades com o cursor da próxima página
+     */
+    default CursorPage<E> findAfter(String cursor, int limit, Function<E, Long> idOf) {
+        int pageSize = CursorPage.checkLimit(limit);
+        List<E> rows = findByIdGreaterThanOrderByIdAsc(CursorPage.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, idOf);
+    }
+}
@@ -1,10 +1,9 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.DisabilityType;
-import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * Repositório JPA para DisabilityType.
  */
-public interface DisabilityTypeRepository extends JpaRepository<DisabilityType, Long> {
+public interface DisabilityTypeRepository extends BaseRepository<DisabilityType> {
 }
\ No newline at end of file
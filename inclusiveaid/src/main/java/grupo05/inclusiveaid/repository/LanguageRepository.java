@@ -1,12 +1,11 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.Language;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repositório para Language.
  */
 @Repository
-public interface LanguageRepository extends JpaRepository<Language, Long> {
+public interface LanguageRepository extends BaseRepository<Language> {
 }
\ No newline at end of file
@@ -1,10 +1,9 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.LayoutAnalysis;
-import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * Repositório JPA para LayoutAnalysis.
  */
-public interface LayoutAnalysisRepository extends JpaRepository<LayoutAnalysis, Long> {
+public interface LayoutAnalysisRepository extends BaseRepository<LayoutAnalysis> {
 }
\ No newline at end of file
@@ -1,10 +1,9 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.LayoutElement;
-import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * Repositório JPA para LayoutElement.
  */
-public interface LayoutElementRepository extends JpaRepository<LayoutElement, Long> {
+public interface LayoutElementRepository extends BaseRepository<LayoutElement> {
 }
\ No newline at end of file
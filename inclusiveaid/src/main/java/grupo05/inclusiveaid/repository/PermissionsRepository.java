@@ -2,13 +2,12 @@ package grupo05.inclusiveaid.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import grupo05.inclusiveaid.entity.Permissions;
 
 /**
  * Repositório para operações de persistência relacionadas às permissões.
  */
-public interface PermissionsRepository extends JpaRepository<Permissions, Long> {
+public interface PermissionsRepository extends BaseRepository<Permissions> {
     /**
      * Verifica se existe uma permissão com o nome especificado (ignorando maiúsculas/minúsculas).
      * @param name Nome da permissão
@@ -1,9 +1,8 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.Priority;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PriorityRepository extends JpaRepository<Priority, Long> {
+public interface PriorityRepository extends BaseRepository<Priority> {
 }
\ No newline at end of file
@@ -1,10 +1,9 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.Role;
-import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * Repositório JPA para Role.
  */
-public interface RoleRepository extends JpaRepository<Role, Long> {
+public interface RoleRepository extends BaseRepository<Role> {
 }
\ No newline at end of file
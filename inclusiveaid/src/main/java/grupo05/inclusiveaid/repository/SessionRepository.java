@@ -1,10 +1,17 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.Session;
-import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * Repositório JPA para Session.
  */
-public interface SessionRepository extends JpaRepository<Session, Long> {
+public interface SessionRepository extends BaseRepository<Session> {
+
+    /**
+     * Verifica no banco, sem passar pelo cache "sessions", se a sessão existe e ainda não foi encerrada.
+     *
+     * @param id ID da sessão
+     * @return {@code true} se a sessão existe e está ativa
+     */
+    boolean existsByIdAndEndedAtIsNull(Long id);
 }
\ No newline at end of file
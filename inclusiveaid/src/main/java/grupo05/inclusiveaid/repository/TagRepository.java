@@ -1,13 +1,12 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.Tag;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repositório para Tag.
  */
 @Repository
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends BaseRepository<Tag> {
     boolean existsByNameIgnoreCase(String name);
 }
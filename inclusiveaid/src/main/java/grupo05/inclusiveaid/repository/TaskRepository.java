@@ -1,7 +1,6 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.Task;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,7 +10,7 @@ import java.util.List;
  * Fornece métodos para persistência e consulta de tarefas.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends BaseRepository<Task> {
     /**
      * Busca tarefas por responsável.
      * @param responsibleId ID do responsável
@@ -2,10 +2,9 @@ package grupo05.inclusiveaid.repository;
 
 
 import grupo05.inclusiveaid.entity.UserAdaptationSetting;
-import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * Repositório JPA para UserAdaptationSetting.
  */
-public interface UserAdaptationSettingRepository extends JpaRepository<UserAdaptationSetting, Long> {
+public interface UserAdaptationSettingRepository extends BaseRepository<UserAdaptationSetting> {
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package grupo05.inclusiveaid.repository;
 
 import grupo05.inclusiveaid.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,12 +11,15 @@ import java.util.Optional;
  * Fornece métodos para persistência e consulta de usuários.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends BaseRepository<User> {
     /**
      * Busca um usuário pelo email.
+     * O papel é carregado na mesma consulta, pois as autoridades do usuário
+     * são lidas fora de transação durante a autenticação.
      * @param email Email do usuário
      * @return Optional contendo o usuário, se encontrado
      */
+    @EntityGraph(attributePaths = "role")
     Optional<User> findByEmail(String email);
     
     /**
@@ -5,7 +5,12 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -14,18 +19,43 @@ import java.io.IOException;
 /**
  * Filtro responsável pela autenticação JWT.
  * Intercepta requisições HTTP para validar tokens JWT e configurar a autenticação.
+ *
+ * O token do cabeçalho Authorization é resolvido pelo {@link JwtTokenCache},
+ * de modo que a verificação da assinatura e a consulta ao usuário ocorrem
+ * apenas na primeira requisição com cada token. Requisições sem token ou
+ * com token inválido seguem sem autenticação, e as regras de autorização
+ * da {@code SecurityFilterChain} decidem se podem prosseguir.
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenCache tokenCache;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
-        // Simplesmente passa a requisição adiante sem processar JWT
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)
+                || SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        VerifiedToken token = tokenCache.resolve(header.substring(BEARER_PREFIX.length()).trim());
+        if (token != null) {
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    token.getUsername(), null, token.getAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+        }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
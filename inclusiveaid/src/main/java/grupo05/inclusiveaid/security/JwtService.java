@@ -1,6 +1,7 @@
 package grupo05.inclusiveaid.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -17,15 +18,26 @@ import java.util.function.Function;
 /**
  * Serviço responsável pela geração e validação de tokens JWT.
  * Gerencia a criação, extração e verificação de tokens de autenticação.
+ *
+ * A chave de assinatura e o parser são construídos uma única vez na
+ * inicialização, já que ambos são imutáveis e seguros para uso concorrente.
  */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final long jwtExpiration;
+    private final Key signingKey;
+    private final JwtParser parser;
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    public JwtService(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.expiration}") long jwtExpiration) {
+        this.jwtExpiration = jwtExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
 
     /**
      * Extrai o nome de usuário do token JWT.
@@ -68,7 +80,7 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -79,26 +91,19 @@ public class JwtService {
      * @return true se o token for válido, false caso contrário
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    /**
-     * Verifica se um token JWT está expirado.
-     * @param token Token JWT
-     * @return true se o token estiver expirado, false caso contrário
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        final Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date());
     }
 
     /**
-     * Extrai a data de expiração do token JWT.
+     * Verifica a assinatura e a validade do token JWT e retorna suas reivindicações.
      * @param token Token JWT
-     * @return Data de expiração do token
+     * @return Todas as reivindicações do token
+     * @throws io.jsonwebtoken.JwtException Se o token for inválido, adulterado ou estiver expirado
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -107,19 +112,6 @@ public class JwtService {
      * @return Todas as reivindicações do token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    /**
-     * Obtém a chave de assinatura para o token JWT.
-     * @return Chave de assinatura
-     */
-    private Key getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        return parseClaims(token);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,129 @@
+package grupo05.inclusiveaid.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Cache de tokens JWT já verificados.
+ *
+ * A verificação completa (assinatura HMAC, expiração e carga do usuário)
+ * acontece apenas na primeira vez em que um token é visto; as requisições
+ * seguintes com o mesmo token são resolvidas por uma consulta ao cache.
+ *
+ * Cada entrada vive no máximo até a expiração do próprio token, limitada
+ * por jwt.cache.max-ttl, de modo que um token expirado nunca é aceito a
+ * partir do cache. Tokens inválidos não são armazenados.
+ */
+@Component
+public class JwtTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenCache.class);
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtTokenCache(
+            JwtService jwtService,
+            @Qualifier("userDetailsService") UserDetailsService userDetailsService,
+            MeterRegistry registry,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.cache.max-ttl:15m}") Duration maxTtl) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        Cache<String, VerifiedToken> tokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new CappedAtTokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+        this.cache = CaffeineCacheMetrics.monitor(registry, tokens, "jwtTokens",
+                "cache.manager", "jwtTokenCache", "name", "jwtTokens");
+    }
+
+    /**
+     * Resolve um token JWT, verificando-o apenas se ainda não estiver no cache.
+     * @param token Token JWT sem o prefixo "Bearer "
+     * @return Token verificado, ou null se o token for inválido, estiver expirado
+     *         ou pertencer a um usuário inexistente ou inativo
+     */
+    public VerifiedToken resolve(String token) {
+        VerifiedToken verified = cache.get(token, this::verify);
+        if (verified != null && verified.getExpiresAt().isBefore(Instant.now())) {
+            cache.invalidate(token);
+            return null;
+        }
+        return verified;
+    }
+
+    /**
+     * Remove todos os tokens verificados de um usuário, forçando nova verificação.
+     * @param username Nome de usuário (email)
+     */
+    public void evictUser(String username) {
+        cache.asMap().values().removeIf(token -> token.getUsername().equals(username));
+    }
+
+    private VerifiedToken verify(String token) {
+        try {
+            Claims claims = jwtService.parseClaims(token);
+            UserDetails user = userDetailsService.loadUserByUsername(claims.getSubject());
+            if (!user.isEnabled()) {
+                logger.debug("Token JWT recusado: usuário {} inativo", user.getUsername());
+                return null;
+            }
+            return new VerifiedToken(
+                    user.getUsername(),
+                    claims.getExpiration().toInstant(),
+                    List.copyOf(user.getAuthorities()));
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            logger.debug("Token JWT recusado: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Política de expiração que limita cada entrada ao menor valor entre o
+     * tempo restante do token e o tempo máximo configurado.
+     */
+    private static final class CappedAtTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long maxTtlNanos;
+
+        private CappedAtTokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remaining = Duration.between(Instant.now(), value.getExpiresAt()).toNanos();
+            return Math.max(0, Math.min(remaining, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
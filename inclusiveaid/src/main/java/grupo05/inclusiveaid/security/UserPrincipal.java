@@ -0,0 +1,66 @@
+package grupo05.inclusiveaid.security;
+
+import grupo05.inclusiveaid.entity.User;
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Cópia imutável dos dados de autenticação de um usuário.
+ *
+ * Guardada no cache "users" no lugar da entidade {@link User}, que é gerenciada
+ * pelo JPA, possui associações lazy e teria a senha apagada pelo
+ * {@code ProviderManager} caso fosse compartilhada entre requisições.
+ */
+@Value
+public class UserPrincipal implements UserDetails {
+
+    /** Email do usuário, utilizado como nome de usuário. */
+    String email;
+
+    /** Hash BCrypt da senha. */
+    String passwordHash;
+
+    /** Nome do papel do usuário (ex.: ROLE_USER), ou null se não houver papel. */
+    String role;
+
+    /** Indica se a conta está ativa. */
+    boolean active;
+
+    /**
+     * Cria a cópia a partir da entidade, que deve estar com o papel carregado.
+     * @param user Entidade do usuário
+     * @return Cópia imutável dos dados de autenticação
+     */
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+            user.getEmail(),
+            user.getPassword(),
+            user.getRole() != null ? user.getRole().getName() : null,
+            Boolean.TRUE.equals(user.getActive()));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role != null ? List.of(new SimpleGrantedAuthority(role)) : List.of();
+    }
+
+    @Override
+    public String getPassword() {
+        return passwordHash;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+}
@@ -0,0 +1,25 @@
+package grupo05.inclusiveaid.security;
+
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Resultado imutável da verificação de um token JWT.
+ * Guarda apenas o necessário para autenticar a requisição: o usuário,
+ * suas autoridades e o instante de expiração do token.
+ */
+@Value
+public class VerifiedToken {
+
+    /** Nome de usuário (email) presente no token. */
+    String username;
+
+    /** Instante em que o token deixa de ser válido. */
+    Instant expiresAt;
+
+    /** Autoridades do usuário no momento da verificação. */
+    List<GrantedAuthority> authorities;
+}
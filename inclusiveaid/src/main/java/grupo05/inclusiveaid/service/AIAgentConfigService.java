@@ -0,0 +1,11 @@
+package grupo05.inclusiveaid.service;
+
+import grupo05.inclusiveaid.dto.AIAgentConfigSnapshot;
+
+/**
+ * Leitura da configuração dos agentes de IA através do cache "agents".
+ */
+public interface AIAgentConfigService {
+    AIAgentConfigSnapshot getAgentConfig(Long agentId);
+    void evictAgentConfig(Long agentId);
+}
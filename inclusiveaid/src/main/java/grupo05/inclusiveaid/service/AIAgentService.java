@@ -1,16 +1,24 @@
 package grupo05.inclusiveaid.service;
 
 import grupo05.inclusiveaid.dto.AIAgentDTO;
+import grupo05.inclusiveaid.dto.AIBatchResultDTO;
+import grupo05.inclusiveaid.dto.AIAgentSummaryDTO;
 import grupo05.inclusiveaid.dto.AgentInteractionDTO;
+import grupo05.inclusiveaid.dto.SubtitleGenerationResultDTO;
+import grupo05.inclusiveaid.enums.InteractionType;
+import org.springframework.data.domain.Page;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface AIAgentService {
     AIAgentDTO createAgent(AIAgentDTO agentDTO);
     AIAgentDTO updateAgent(Long id, AIAgentDTO agentDTO);
     void deleteAgent(Long id);
     AIAgentDTO getAgent(Long id);
-    List<AIAgentDTO> getAllAgents();
-    List<AIAgentDTO> getActiveAgents();
+    Page<AIAgentDTO> getAllAgents(int page, int size);
+    Page<AIAgentDTO> getActiveAgents(int page, int size);
+    Page<AIAgentSummaryDTO> getAgentSummaries(int page, int size);
     
     // AI Interaction methods
     AgentInteractionDTO processVoiceCommand(Long agentId, Long userId, String command);
@@ -19,6 +27,25 @@ public interface AIAgentService {
     AgentInteractionDTO describeImage(Long agentId, Long userId, String imageData);
     AgentInteractionDTO adaptLayout(Long agentId, Long userId, String layoutData);
     AgentInteractionDTO automateTask(Long agentId, Long userId, String taskDescription);
+
+    // Asynchronous AI Interaction methods
+    CompletableFuture<AgentInteractionDTO> processVoiceCommandAsync(Long agentId, Long userId, String command);
+    CompletableFuture<AgentInteractionDTO> analyzeLayoutAsync(Long agentId, Long userId, String layoutData);
+    CompletableFuture<AgentInteractionDTO> generateSubtitleAsync(Long agentId, Long userId, String audioText);
+    CompletableFuture<AgentInteractionDTO> describeImageAsync(Long agentId, Long userId, String imageData);
+    CompletableFuture<AgentInteractionDTO> adaptLayoutAsync(Long agentId, Long userId, String layoutData);
+    CompletableFuture<AgentInteractionDTO> automateTaskAsync(Long agentId, Long userId, String taskDescription);
+
+    // Streaming AI Interaction methods
+    CompletableFuture<AgentInteractionDTO> interactStreamAsync(Long agentId, Long userId, InteractionType type, String input,
+                                                               Consumer<String> onChunk);
+
+    // Batch AI Interaction methods
+    CompletableFuture<AIBatchResultDTO> interactBatchAsync(Long agentId, Long userId, InteractionType type, List<String> inputs);
+
+    // Windowed subtitle generation
+    CompletableFuture<SubtitleGenerationResultDTO> generateSubtitlesAsync(Long agentId, Long userId, Long sessionId,
+                                                                          String transcript);
     
     // AI Model management
     void updateAIModel(Long agentId, String modelType, String modelVersion);
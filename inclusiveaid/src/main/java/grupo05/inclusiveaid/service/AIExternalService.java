@@ -3,6 +3,15 @@ package grupo05.inclusiveaid.service;
 import grupo05.inclusiveaid.config.NLPConfig;
 import grupo05.inclusiveaid.config.ImageProcessingConfig;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Chamadas aos provedores externos de IA.
+ * Quando o provedor não pode atender (circuito aberto, bulkhead cheio, timeout ou erro),
+ * as operações lançam {@link grupo05.inclusiveaid.exception.AIServiceUnavailableException};
+ * nas variantes assíncronas o futuro é concluído excepcionalmente com ela.
+ */
 public interface AIExternalService {
     String processVoiceCommand(String command, NLPConfig config);
     String analyzeLayout(String layoutData, ImageProcessingConfig config);
@@ -11,4 +20,24 @@ public interface AIExternalService {
     String adaptLayout(String layoutData, ImageProcessingConfig config);
     String automateTask(String taskDescription, NLPConfig config);
     void trainModel(String trainingData, NLPConfig config);
-} 
\ No newline at end of file
+
+    // Variantes assíncronas: não bloqueiam a thread chamadora durante a chamada ao provedor
+    CompletableFuture<String> processVoiceCommandAsync(String command, NLPConfig config);
+    CompletableFuture<String> analyzeLayoutAsync(String layoutData, ImageProcessingConfig config);
+    CompletableFuture<String> generateSubtitleAsync(String audioText, NLPConfig config);
+    CompletableFuture<String> describeImageAsync(String imageData, ImageProcessingConfig config);
+    CompletableFuture<String> adaptLayoutAsync(String layoutData, ImageProcessingConfig config);
+    CompletableFuture<String> automateTaskAsync(String taskDescription, NLPConfig config);
+
+    // Legenda de uma janela da transcrição; o contexto (final da janela anterior) não é legendado
+    CompletableFuture<String> generateSubtitleWindowAsync(String context, String audioText, NLPConfig config);
+
+    // Variantes em streaming: cada trecho do texto é entregue a onChunk assim que chega do provedor,
+    // e o futuro é concluído com o texto completo
+    CompletableFuture<String> processVoiceCommandStream(String command, NLPConfig config, Consumer<String> onChunk);
+    CompletableFuture<String> analyzeLayoutStream(String layoutData, ImageProcessingConfig config, Consumer<String> onChunk);
+    CompletableFuture<String> generateSubtitleStream(String audioText, NLPConfig config, Consumer<String> onChunk);
+    CompletableFuture<String> describeImageStream(String imageData, ImageProcessingConfig config, Consumer<String> onChunk);
+    CompletableFuture<String> adaptLayoutStream(String layoutData, ImageProcessingConfig config, Consumer<String> onChunk);
+    CompletableFuture<String> automateTaskStream(String taskDescription, NLPConfig config, Consumer<String> onChunk);
+}
@@ -0,0 +1,9 @@
+package grupo05.inclusiveaid.service;
+
+/**
+ * Validação das sessões através do cache "sessions", mantido enquanto a sessão estiver aberta.
+ */
+public interface ActiveSessionService {
+    boolean isActive(Long sessionId);
+    void evict(Long sessionId);
+}
@@ -1,6 +1,8 @@
 package grupo05.inclusiveaid.service;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * Interface genérica para serviços CRUD básicos usando DTOs.
@@ -11,6 +13,23 @@ public interface CrudService<D> {
     D create(D dto);
     D getById(Long id);
     Page<D> listAll(int page, int size);
+
+    /**
+     * Lista por cursor (keyset), em ordem crescente de id e sem consulta de contagem.
+     *
+     * @param cursor Cursor opaco da página anterior (nulo para a primeira página)
+     * @param limit Quantidade de itens por página
+     */
+    CursorPage<D> listAfter(String cursor, int limit);
+
+    /**
+     * Lista em fatias ordenadas por id, informando apenas se há próxima fatia
+     * (sem consulta de contagem, ao contrário de {@link #listAll}).
+     *
+     * @param page Número da fatia (começa em 0)
+     * @param size Quantidade de itens por fatia
+     */
+    Slice<D> listSlice(int page, int size);
     D update(Long id, D dto);
     void delete(Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,13 @@
+package grupo05.inclusiveaid.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Canal de eventos em tempo real por sessão, que distribui novas legendas e
+ * resultados de comandos de voz aos clientes inscritos.
+ */
+public interface SessionEventService {
+    SseEmitter subscribe(Long sessionId);
+    void publish(Long sessionId, String event, Object payload);
+    void close(Long sessionId);
+}
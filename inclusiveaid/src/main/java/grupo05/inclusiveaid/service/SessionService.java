@@ -6,4 +6,5 @@ import grupo05.inclusiveaid.dto.SessionDTO;
  * CRUD para Session.
  */
 public interface SessionService extends CrudService<SessionDTO> {
+    SessionDTO end(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package grupo05.inclusiveaid.service;
+
+import grupo05.inclusiveaid.enums.CaptionFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+/**
+ * Exportação das legendas de uma sessão como arquivo WebVTT ou SRT.
+ */
+public interface SubtitleExportService {
+    void export(Long sessionId, Instant origin, CaptionFormat format, OutputStream out) throws IOException;
+
+    String revision(Long sessionId);
+}
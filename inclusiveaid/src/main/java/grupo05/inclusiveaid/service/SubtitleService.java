@@ -1,9 +1,15 @@
 package grupo05.inclusiveaid.service;
 
 import grupo05.inclusiveaid.dto.SubtitleDTO;
+import grupo05.inclusiveaid.dto.SubtitleIngestResultDTO;
+
+import java.io.BufferedReader;
+import java.time.Instant;
 
 /**
  * CRUD para Subtitle.
  */
 public interface SubtitleService extends CrudService<SubtitleDTO> {
+    SubtitleIngestResultDTO ingest(Long sessionId, BufferedReader reader, boolean json);
+    SubtitleDTO append(Long sessionId, String text, Instant timestamp);
 }
\ No newline at end of file
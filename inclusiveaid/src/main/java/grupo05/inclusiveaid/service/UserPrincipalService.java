@@ -0,0 +1,11 @@
+package grupo05.inclusiveaid.service;
+
+import grupo05.inclusiveaid.security.UserPrincipal;
+
+/**
+ * Leitura dos dados de autenticação dos usuários através do cache "users".
+ */
+public interface UserPrincipalService {
+    UserPrincipal loadPrincipal(String email);
+    void evictPrincipal(String email);
+}
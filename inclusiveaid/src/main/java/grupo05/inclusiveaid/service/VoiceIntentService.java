@@ -0,0 +1,31 @@
+package grupo05.inclusiveaid.service;
+
+import grupo05.inclusiveaid.dto.VoiceIntentDictionaryDTO;
+
+import java.util.Optional;
+
+/**
+ * Serviço de reconhecimento local de comandos de voz.
+ * Resolve os comandos conhecidos sem chamar o provedor de IA.
+ */
+public interface VoiceIntentService {
+    /**
+     * Procura o comando no dicionário.
+     *
+     * @param command Texto transcrito do comando
+     * @return Resposta da intenção reconhecida, ou vazio se o comando deve ir ao provedor
+     */
+    Optional<String> match(String command);
+
+    /**
+     * Recarrega e recompila o dicionário, mantendo o anterior em caso de erro.
+     *
+     * @return Estado do dicionário carregado
+     */
+    VoiceIntentDictionaryDTO reload();
+
+    /**
+     * @return Estado do dicionário em uso
+     */
+    VoiceIntentDictionaryDTO getDictionary();
+}
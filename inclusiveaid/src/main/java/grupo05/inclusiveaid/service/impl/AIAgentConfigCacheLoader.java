@@ -0,0 +1,31 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.config.NamedCacheLoader;
+import grupo05.inclusiveaid.dto.AIAgentConfigSnapshot;
+import grupo05.inclusiveaid.repository.AIAgentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carregador do cache "agents", usado na renovação antecipada (refreshAfterWrite)
+ * das configurações de agentes. Agentes removidos resultam em {@code null},
+ * o que retira a entrada do cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class AIAgentConfigCacheLoader implements NamedCacheLoader {
+
+    private final AIAgentRepository agentRepository;
+
+    @Override
+    public String getCacheName() {
+        return "agents";
+    }
+
+    @Override
+    public Object load(Object agentId) {
+        return agentRepository.findById((Long) agentId)
+            .map(AIAgentConfigSnapshot::from)
+            .orElse(null);
+    }
+}
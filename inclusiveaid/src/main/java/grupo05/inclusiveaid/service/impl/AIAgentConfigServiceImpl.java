@@ -0,0 +1,35 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.dto.AIAgentConfigSnapshot;
+import grupo05.inclusiveaid.exception.ResourceNotFoundException;
+import grupo05.inclusiveaid.repository.AIAgentRepository;
+import grupo05.inclusiveaid.service.AIAgentConfigService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cache de leitura (read-through) da configuração dos agentes, indexado pelo id do agente.
+ * Retira o banco de dados do caminho das interações com IA: apenas a primeira
+ * leitura de cada agente, ou a leitura após uma invalidação, consulta o repositório.
+ */
+@Service
+@RequiredArgsConstructor
+public class AIAgentConfigServiceImpl implements AIAgentConfigService {
+
+    private final AIAgentRepository agentRepository;
+
+    @Override
+    @Cacheable(cacheNames = "agents", key = "#agentId")
+    public AIAgentConfigSnapshot getAgentConfig(Long agentId) {
+        return agentRepository.findById(agentId)
+            .map(AIAgentConfigSnapshot::from)
+            .orElseThrow(() -> new ResourceNotFoundException("Agent not found with id: " + agentId));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = "agents", key = "#agentId")
+    public void evictAgentConfig(Long agentId) {
+    }
+}
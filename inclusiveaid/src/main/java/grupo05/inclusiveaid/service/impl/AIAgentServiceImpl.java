@@ -1,42 +1,129 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.AIAgentConfigSnapshot;
 import grupo05.inclusiveaid.dto.AIAgentDTO;
+import grupo05.inclusiveaid.dto.AIBatchItemDTO;
+import grupo05.inclusiveaid.dto.AIBatchResultDTO;
+import grupo05.inclusiveaid.dto.AIAgentSummaryDTO;
 import grupo05.inclusiveaid.dto.AgentInteractionDTO;
+import grupo05.inclusiveaid.dto.SubtitleDTO;
+import grupo05.inclusiveaid.dto.SubtitleGenerationResultDTO;
 import grupo05.inclusiveaid.dto.NLPConfigDTO;
 import grupo05.inclusiveaid.dto.ImageProcessingConfigDTO;
 import grupo05.inclusiveaid.dto.VoiceProcessingConfigDTO;
 import grupo05.inclusiveaid.entity.AIAgent;
 import grupo05.inclusiveaid.entity.AgentInteraction;
 import grupo05.inclusiveaid.entity.User;
+import grupo05.inclusiveaid.config.AIBatchProperties;
+import grupo05.inclusiveaid.config.AISubtitleProperties;
 import grupo05.inclusiveaid.config.NLPConfig;
 import grupo05.inclusiveaid.config.ImageProcessingConfig;
 import grupo05.inclusiveaid.config.VoiceProcessingConfig;
 import grupo05.inclusiveaid.enums.InteractionType;
+import grupo05.inclusiveaid.exception.AIServiceUnavailableException;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
+import grupo05.inclusiveaid.exception.ValidationException;
 import grupo05.inclusiveaid.repository.AIAgentRepository;
 import grupo05.inclusiveaid.repository.AgentInteractionRepository;
 import grupo05.inclusiveaid.repository.UserRepository;
+import grupo05.inclusiveaid.service.AIAgentConfigService;
 import grupo05.inclusiveaid.service.AIAgentService;
 import grupo05.inclusiveaid.service.AIExternalService;
+import grupo05.inclusiveaid.service.ActiveSessionService;
+import grupo05.inclusiveaid.service.SubtitleService;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 /*
  * Serviço de alto nível que coordena as interações com agentes de IA responsáveis por diferentes funcionalidades de acessibilidade.
+ *
+ * As interações são executadas em duas fases curtas, separadas pela chamada remota:
+ * uma leitura que valida agente e usuário, a chamada ao provedor de IA sem nenhuma conexão JDBC retida,
+ * e uma escrita que registra a AgentInteraction.
+ *
+ * A configuração do agente vem do cache "agents" (AIAgentConfigService); alterações feitas por
+ * updateAgent, updateAIModel e deleteAgent invalidam a entrada após o commit da transação.
+ *
+ * Com app.interactions.write-behind.enabled, a fase de escrita apenas enfileira a interação
+ * para gravação em lote (AgentInteractionWriteBehind), retornando-a ao cliente sem id.
+ *
+ * Quando o provedor está indisponível (circuito aberto, bulkhead cheio, timeout ou erro), a interação
+ * é registrada com successful=false e uma resposta degradada fixa, que também é devolvida ao chamador.
+ *
+ * Cada interação é medida por tipo (AIInteractionMetrics): duração total por resultado,
+ * duração das fases de leitura, provedor e registro, e tamanho da entrada.
+ *
+ * As variantes em streaming (interactStreamAsync) repassam os trechos da resposta conforme
+ * chegam do provedor e registram a interação com o texto completo ao fim do stream.
+ *
+ * As operações em lote (interactBatchAsync) fazem a leitura uma única vez, enviam as entradas
+ * ao provedor com paralelismo limitado (app.ai.batch.parallelism) e registram todas as
+ * interações em um único batch JDBC.
+ *
+ * A geração de legendas em janelas (generateSubtitlesAsync) divide a transcrição em janelas
+ * (TranscriptWindow), legendadas com paralelismo limitado (app.ai.subtitles.parallelism); cada
+ * janela concluída é gravada como Subtitle e publicada na sessão assim que as anteriores também
+ * estiverem prontas, de modo que a primeira legenda aparece após o tempo de uma janela.
+ *
+ * As listagens são paginadas, e os ids dos usuários ativos de todos os agentes da página
+ * são lidos da tabela de junção em uma única consulta, em vez de uma por agente.
  */
 @Service
 @RequiredArgsConstructor
 public class AIAgentServiceImpl implements AIAgentService {
+    private static final Logger log = LoggerFactory.getLogger(AIAgentServiceImpl.class);
+
+    static final String DEGRADED_RESPONSE = "AI service is temporarily unavailable. Please try again later.";
+
+    static final String BATCH_ITEM_ERROR = "Failed to process this item.";
+
+    /** Tipos de operação com chamada ao provedor, aceitos em lote e em streaming. */
+    private static final Set<InteractionType> PROVIDER_TYPES = EnumSet.of(
+        InteractionType.VOICE_COMMAND, InteractionType.LAYOUT_ANALYSIS, InteractionType.SUBTITLE_GENERATION,
+        InteractionType.IMAGE_DESCRIPTION, InteractionType.LAYOUT_ADAPTATION, InteractionType.TASK_AUTOMATION);
 
     private final AIAgentRepository agentRepository;
     private final AgentInteractionRepository interactionRepository;
     private final UserRepository userRepository;
     private final AIExternalService aiExternalService;
+    private final AIAgentConfigService agentConfigService;
+    private final AgentInteractionWriteBehind interactionWriteBehind;
+    private final TransactionTemplate transactionTemplate;
+    private final AIInteractionMetrics interactionMetrics;
+    private final AIBatchProperties batchProperties;
+    private final AISubtitleProperties subtitleProperties;
+    private final ActiveSessionService activeSessions;
+    private final SubtitleService subtitleService;
+    private final ExecutorService aiExecutor;
 
     @Override
     @Transactional
@@ -54,6 +141,7 @@ public class AIAgentServiceImpl implements AIAgentService {
         
         updateAgentFromDTO(agent, agentDTO);
         agent = agentRepository.save(agent);
+        evictAgentConfigAfterCommit(id);
         return mapToDTO(agent);
     }
 
@@ -61,6 +149,7 @@ public class AIAgentServiceImpl implements AIAgentService {
     @Transactional
     public void deleteAgent(Long id) {
         agentRepository.deleteById(id);
+        evictAgentConfigAfterCommit(id);
     }
 
     @Override
@@ -71,77 +160,185 @@ public class AIAgentServiceImpl implements AIAgentService {
     }
 
     @Override
-    public List<AIAgentDTO> getAllAgents() {
-        return agentRepository.findAll().stream()
-            .map(this::mapToDTO)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<AIAgentDTO> getAllAgents(int page, int size) {
+        return mapToDTOs(agentRepository.findAll(PageRequest.of(page, size, Sort.by("id"))));
     }
 
     @Override
-    public List<AIAgentDTO> getActiveAgents() {
-        return agentRepository.findByIsActive(true).stream()
-            .map(this::mapToDTO)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<AIAgentDTO> getActiveAgents(int page, int size) {
+        return mapToDTOs(agentRepository.findByIsActive(true, PageRequest.of(page, size, Sort.by("id"))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AIAgentSummaryDTO> getAgentSummaries(int page, int size) {
+        return agentRepository.findSummaries(PageRequest.of(page, size, Sort.by("id")));
     }
 
     @Override
-    @Transactional
     public AgentInteractionDTO processVoiceCommand(Long agentId, Long userId, String command) {
-        AIAgent agent = getAgentEntity(agentId);
-        User user = getUserEntity(userId);
-        
-        String response = aiExternalService.processVoiceCommand(command, agent.getNlpConfig());
-        return createInteraction(agent, user, InteractionType.VOICE_COMMAND, command, response);
+        return interact(agentId, userId, InteractionType.VOICE_COMMAND, command,
+            config -> aiExternalService.processVoiceCommand(command, config.getNlpConfig()));
     }
 
     @Override
-    @Transactional
     public AgentInteractionDTO analyzeLayout(Long agentId, Long userId, String layoutData) {
-        AIAgent agent = getAgentEntity(agentId);
-        User user = getUserEntity(userId);
-        
-        String analysis = aiExternalService.analyzeLayout(layoutData, agent.getImageConfig());
-        return createInteraction(agent, user, InteractionType.LAYOUT_ANALYSIS, layoutData, analysis);
+        return interact(agentId, userId, InteractionType.LAYOUT_ANALYSIS, layoutData,
+            config -> aiExternalService.analyzeLayout(layoutData, config.getImageConfig()));
     }
 
     @Override
-    @Transactional
     public AgentInteractionDTO generateSubtitle(Long agentId, Long userId, String audioText) {
-        AIAgent agent = getAgentEntity(agentId);
-        User user = getUserEntity(userId);
-        
-        String subtitle = aiExternalService.generateSubtitle(audioText, agent.getNlpConfig());
-        return createInteraction(agent, user, InteractionType.SUBTITLE_GENERATION, audioText, subtitle);
+        return interact(agentId, userId, InteractionType.SUBTITLE_GENERATION, audioText,
+            config -> aiExternalService.generateSubtitle(audioText, config.getNlpConfig()));
     }
 
     @Override
-    @Transactional
     public AgentInteractionDTO describeImage(Long agentId, Long userId, String imageData) {
-        AIAgent agent = getAgentEntity(agentId);
-        User user = getUserEntity(userId);
-        
-        String description = aiExternalService.describeImage(imageData, agent.getImageConfig());
-        return createInteraction(agent, user, InteractionType.IMAGE_DESCRIPTION, imageData, description);
+        return interact(agentId, userId, InteractionType.IMAGE_DESCRIPTION, imageData,
+            config -> aiExternalService.describeImage(imageData, config.getImageConfig()));
     }
 
     @Override
-    @Transactional
     public AgentInteractionDTO adaptLayout(Long agentId, Long userId, String layoutData) {
-        AIAgent agent = getAgentEntity(agentId);
-        User user = getUserEntity(userId);
-        
-        String adaptedLayout = aiExternalService.adaptLayout(layoutData, agent.getImageConfig());
-        return createInteraction(agent, user, InteractionType.LAYOUT_ADAPTATION, layoutData, adaptedLayout);
+        return interact(agentId, userId, InteractionType.LAYOUT_ADAPTATION, layoutData,
+            config -> aiExternalService.adaptLayout(layoutData, config.getImageConfig()));
     }
 
     @Override
-    @Transactional
     public AgentInteractionDTO automateTask(Long agentId, Long userId, String taskDescription) {
-        AIAgent agent = getAgentEntity(agentId);
-        User user = getUserEntity(userId);
-        
-        String result = aiExternalService.automateTask(taskDescription, agent.getNlpConfig());
-        return createInteraction(agent, user, InteractionType.TASK_AUTOMATION, taskDescription, result);
+        return interact(agentId, userId, InteractionType.TASK_AUTOMATION, taskDescription,
+            config -> aiExternalService.automateTask(taskDescription, config.getNlpConfig()));
+    }
+
+    @Override
+    public CompletableFuture<AgentInteractionDTO> processVoiceCommandAsync(Long agentId, Long userId, String command) {
+        return interactAsync(agentId, userId, InteractionType.VOICE_COMMAND, command,
+            config -> aiExternalService.processVoiceCommandAsync(command, config.getNlpConfig()));
+    }
+
+    @Override
+    public CompletableFuture<AgentInteractionDTO> analyzeLayoutAsync(Long agentId, Long userId, String layoutData) {
+        return interactAsync(agentId, userId, InteractionType.LAYOUT_ANALYSIS, layoutData,
+            config -> aiExternalService.analyzeLayoutAsync(layoutData, config.getImageConfig()));
+    }
+
+    @Override
+    public CompletableFuture<AgentInteractionDTO> generateSubtitleAsync(Long agentId, Long userId, String audioText) {
+        return interactAsync(agentId, userId, InteractionType.SUBTITLE_GENERATION, audioText,
+            config -> aiExternalService.generateSubtitleAsync(audioText, config.getNlpConfig()));
+    }
+
+    @Override
+    public CompletableFuture<AgentInteractionDTO> describeImageAsync(Long agentId, Long userId, String imageData) {
+        return interactAsync(agentId, userId, InteractionType.IMAGE_DESCRIPTION, imageData,
+            config -> aiExternalService.describeImageAsync(imageData, config.getImageConfig()));
+    }
+
+    @Override
+    public CompletableFuture<AgentInteractionDTO> adaptLayoutAsync(Long agentId, Long userId, String layoutData) {
+        return interactAsync(agentId, userId, InteractionType.LAYOUT_ADAPTATION, layoutData,
+            config -> aiExternalService.adaptLayoutAsync(layoutData, config.getImageConfig()));
+    }
+
+    @Override
+    public CompletableFuture<AgentInteractionDTO> automateTaskAsync(Long agentId, Long userId, String taskDescription) {
+        return interactAsync(agentId, userId, InteractionType.TASK_AUTOMATION, taskDescription,
+            config -> aiExternalService.automateTaskAsync(taskDescription, config.getNlpConfig()));
+    }
+
+    @Override
+    public CompletableFuture<AgentInteractionDTO> interactStreamAsync(Long agentId, Long userId, InteractionType type,
+                                                                      String input, Consumer<String> onChunk) {
+        checkProviderType(type, "streaming");
+        return interactAsync(agentId, userId, type, input, config -> callProviderStream(type, input, config, onChunk));
+    }
+
+    @Override
+    public CompletableFuture<AIBatchResultDTO> interactBatchAsync(Long agentId, Long userId, InteractionType type,
+                                                                  List<String> inputs) {
+        checkProviderType(type, "batch");
+        if (inputs.size() > batchProperties.getMaxItems()) {
+            throw new ValidationException("Batch exceeds the limit of " + batchProperties.getMaxItems() + " items");
+        }
+        Timer.Sample sample = interactionMetrics.start();
+        inputs.forEach(input -> interactionMetrics.recordPayload(type, input));
+        AIAgentConfigSnapshot config;
+        try {
+            config = interactionMetrics.time(type, AIInteractionMetrics.PHASE_LOAD,
+                () -> loadAgentForInteraction(agentId, userId));
+        } catch (RuntimeException e) {
+            inputs.forEach(input -> interactionMetrics.recordInteraction(type, AIInteractionMetrics.OUTCOME_ERROR, sample));
+            throw e;
+        }
+
+        BatchItem[] items = new BatchItem[inputs.size()];
+        AtomicInteger next = new AtomicInteger();
+        int lanes = Math.max(1, Math.min(batchProperties.getParallelism(), inputs.size()));
+        CompletableFuture<?>[] laneFutures = new CompletableFuture<?>[lanes];
+        for (int i = 0; i < lanes; i++) {
+            laneFutures[i] = runBatchLane(next, inputs.size(), items,
+                index -> callProviderAsync(type, inputs.get(index), config), type, index -> { });
+        }
+        return CompletableFuture.allOf(laneFutures)
+            .thenApplyAsync(ignored -> completeBatch(agentId, userId, type, inputs, items), aiExecutor)
+            .whenComplete((result, error) -> {
+                for (BatchItem item : items) {
+                    String outcome = error != null || item == null || item.error != null ? AIInteractionMetrics.OUTCOME_ERROR
+                        : item.degraded ? AIInteractionMetrics.OUTCOME_DEGRADED : AIInteractionMetrics.OUTCOME_SUCCESS;
+                    interactionMetrics.recordInteraction(type, outcome, sample);
+                }
+            });
+    }
+
+    @Override
+    public CompletableFuture<SubtitleGenerationResultDTO> generateSubtitlesAsync(Long agentId, Long userId, Long sessionId,
+                                                                                 String transcript) {
+        InteractionType type = InteractionType.SUBTITLE_GENERATION;
+        List<TranscriptWindow> windows = TranscriptWindow.split(transcript, subtitleProperties);
+        if (windows.isEmpty()) {
+            throw new ValidationException("Transcript is empty");
+        }
+        if (windows.size() > subtitleProperties.getMaxWindows()) {
+            throw new ValidationException("Transcript exceeds the limit of " + subtitleProperties.getMaxWindows() + " windows");
+        }
+        Timer.Sample sample = interactionMetrics.start();
+        windows.forEach(window -> interactionMetrics.recordPayload(type, window.getText()));
+        AIAgentConfigSnapshot config;
+        try {
+            config = interactionMetrics.time(type, AIInteractionMetrics.PHASE_LOAD, () -> {
+                AIAgentConfigSnapshot loaded = loadAgentForInteraction(agentId, userId);
+                if (!activeSessions.isActive(sessionId)) {
+                    throw new ValidationException("Session já encerrada");
+                }
+                return loaded;
+            });
+        } catch (RuntimeException e) {
+            windows.forEach(window -> interactionMetrics.recordInteraction(type, AIInteractionMetrics.OUTCOME_ERROR, sample));
+            throw e;
+        }
+
+        SubtitleWindowEmitter emitter = new SubtitleWindowEmitter(agentId, userId, sessionId, windows, Instant.now());
+        AtomicInteger next = new AtomicInteger();
+        int lanes = Math.max(1, Math.min(subtitleProperties.getParallelism(), windows.size()));
+        CompletableFuture<?>[] laneFutures = new CompletableFuture<?>[lanes];
+        for (int i = 0; i < lanes; i++) {
+            laneFutures[i] = runBatchLane(next, windows.size(), emitter.items, index -> aiExternalService
+                .generateSubtitleWindowAsync(windows.get(index).getContext(), windows.get(index).getText(), config.getNlpConfig()),
+                type, emitter::emitReady);
+        }
+        return CompletableFuture.allOf(laneFutures)
+            .thenCompose(ignored -> emitter.written())
+            .thenApply(ignored -> emitter.result())
+            .whenComplete((result, error) -> {
+                for (BatchItem item : emitter.items) {
+                    String outcome = error != null || item == null || item.error != null ? AIInteractionMetrics.OUTCOME_ERROR
+                        : item.degraded ? AIInteractionMetrics.OUTCOME_DEGRADED : AIInteractionMetrics.OUTCOME_SUCCESS;
+                    interactionMetrics.recordInteraction(type, outcome, sample);
+                }
+            });
     }
 
     @Override
@@ -161,13 +358,13 @@ public class AIAgentServiceImpl implements AIAgentService {
                 break;
         }
         agentRepository.save(agent);
+        evictAgentConfigAfterCommit(agentId);
     }
 
     @Override
-    @Transactional
     public void trainAIModel(Long agentId, String trainingData) {
-        AIAgent agent = getAgentEntity(agentId);
-        aiExternalService.trainModel(trainingData, agent.getNlpConfig());
+        AIAgentConfigSnapshot config = agentConfigService.getAgentConfig(agentId);
+        aiExternalService.trainModel(trainingData, config.getNlpConfig());
     }
 
     // Métodos auxiliares
@@ -176,29 +373,418 @@ public class AIAgentServiceImpl implements AIAgentService {
             .orElseThrow(() -> new ResourceNotFoundException("Agent not found with id: " + id));
     }
 
-    private User getUserEntity(Long id) {
-        return userRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+    /**
+     * Fase de leitura: obtém a configuração do agente do cache e valida o usuário.
+     * Com o agente em cache, resta apenas a verificação de existência do usuário por chave primária.
+     */
+    private AIAgentConfigSnapshot loadAgentForInteraction(Long agentId, Long userId) {
+        AIAgentConfigSnapshot config = agentConfigService.getAgentConfig(agentId);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        return config;
+    }
+
+    /**
+     * Invalida a configuração em cache do agente somente após o commit,
+     * evitando que uma leitura concorrente recoloque no cache o estado anterior.
+     */
+    private void evictAgentConfigAfterCommit(Long agentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            agentConfigService.evictAgentConfig(agentId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                agentConfigService.evictAgentConfig(agentId);
+            }
+        });
+    }
+
+    /**
+     * Executa as três fases da interação (leitura, chamada ao provedor e registro),
+     * degradando caso o provedor esteja indisponível.
+     */
+    private AgentInteractionDTO interact(Long agentId, Long userId, InteractionType type, String action,
+                                         Function<AIAgentConfigSnapshot, String> providerCall) {
+        Timer.Sample sample = interactionMetrics.start();
+        String outcome = AIInteractionMetrics.OUTCOME_ERROR;
+        try {
+            interactionMetrics.recordPayload(type, action);
+            AIAgentConfigSnapshot config = interactionMetrics.time(type, AIInteractionMetrics.PHASE_LOAD,
+                () -> loadAgentForInteraction(agentId, userId));
+            AgentInteractionDTO interaction;
+            try {
+                String response = interactionMetrics.time(type, AIInteractionMetrics.PHASE_PROVIDER,
+                    () -> providerCall.apply(config));
+                interaction = createInteraction(agentId, userId, type, action, response, true);
+            } catch (AIServiceUnavailableException e) {
+                interaction = recordDegraded(agentId, userId, type, action, e);
+            }
+            outcome = outcomeOf(interaction);
+            return interaction;
+        } finally {
+            interactionMetrics.recordInteraction(type, outcome, sample);
+        }
+    }
+
+    /**
+     * Variante assíncrona de {@link #interact}: a leitura ocorre na thread do chamador,
+     * e o registro é feito na conclusão da chamada ao provedor, em aiExecutor. A conclusão
+     * pode ocorrer na thread única que dispara os timeouts de CompletableFuture (orTimeout),
+     * que não deve esperar pelo banco.
+     */
+    private CompletableFuture<AgentInteractionDTO> interactAsync(Long agentId, Long userId, InteractionType type, String action,
+                                                                 Function<AIAgentConfigSnapshot, CompletableFuture<String>> providerCall) {
+        Timer.Sample sample = interactionMetrics.start();
+        CompletableFuture<String> response;
+        try {
+            interactionMetrics.recordPayload(type, action);
+            AIAgentConfigSnapshot config = interactionMetrics.time(type, AIInteractionMetrics.PHASE_LOAD,
+                () -> loadAgentForInteraction(agentId, userId));
+            Timer.Sample providerSample = interactionMetrics.start();
+            response = providerCall.apply(config)
+                .whenComplete((result, error) ->
+                    interactionMetrics.recordPhase(type, AIInteractionMetrics.PHASE_PROVIDER, providerSample));
+        } catch (RuntimeException e) {
+            interactionMetrics.recordInteraction(type, AIInteractionMetrics.OUTCOME_ERROR, sample);
+            throw e;
+        }
+        return response
+            .handleAsync((result, error) -> completeInteraction(agentId, userId, type, action, result, error), aiExecutor)
+            .whenComplete((interaction, error) -> interactionMetrics.recordInteraction(type,
+                error != null ? AIInteractionMetrics.OUTCOME_ERROR : outcomeOf(interaction), sample));
+    }
+
+    /**
+     * Resposta do provedor para uma entrada do lote.
+     */
+    private static final class BatchItem {
+        private final String response;
+        private final boolean degraded;
+        private final Throwable error;
+
+        private BatchItem(String response, boolean degraded, Throwable error) {
+            this.response = response;
+            this.degraded = degraded;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Processa entradas do lote em sequência, retirando a próxima entrada livre do índice
+     * compartilhado a cada conclusão; o número de raias executadas em paralelo é o limite
+     * de chamadas simultâneas do lote. onItem é chamado com o índice de cada entrada concluída.
+     */
+    private CompletableFuture<Void> runBatchLane(AtomicInteger next, int count, BatchItem[] items,
+                                                 IntFunction<CompletableFuture<String>> providerCall,
+                                                 InteractionType type, IntConsumer onItem) {
+        int index = next.getAndIncrement();
+        if (index >= count) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Timer.Sample providerSample = interactionMetrics.start();
+        CompletableFuture<String> response;
+        try {
+            response = providerCall.apply(index);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        return response
+            .handle((result, error) -> {
+                interactionMetrics.recordPhase(type, AIInteractionMetrics.PHASE_PROVIDER, providerSample);
+                items[index] = toBatchItem(type, result, error);
+                onItem.accept(index);
+                return null;
+            })
+            .thenCompose(ignored -> runBatchLane(next, count, items, providerCall, type, onItem));
+    }
+
+    /**
+     * Grava as janelas de uma transcrição na ordem, à medida que ficam prontas: a conclusão
+     * de uma janela libera ela e as seguintes já concluídas. Janelas sem resposta do provedor
+     * (degradadas ou com erro) são legendadas com o próprio texto transcrito, para não deixar
+     * lacunas na sessão. A legenda de cada janela recebe o instante de início da geração
+     * somado à posição estimada da janela na mídia.
+     *
+     * As gravações não ocorrem na thread que concluiu a chamada ao provedor nem com o monitor
+     * retido: cada janela liberada é encadeada após a anterior e gravada em aiExecutor, de modo
+     * que há um único escritor por transcrição. Se o registro da interação falhar, a legenda é
+     * gravada assim mesmo; se a gravação de uma legenda falhar, as janelas seguintes não são
+     * gravadas e a geração termina com o erro.
+     */
+    private final class SubtitleWindowEmitter {
+        private final Long agentId;
+        private final Long userId;
+        private final Long sessionId;
+        private final List<TranscriptWindow> windows;
+        private final Instant start;
+        private final BatchItem[] items;
+        private final SubtitleDTO[] subtitles;
+        /** Próxima janela a ser encadeada em writes. */
+        private int nextToSchedule;
+        private CompletableFuture<Void> writes = CompletableFuture.completedFuture(null);
+
+        private SubtitleWindowEmitter(Long agentId, Long userId, Long sessionId, List<TranscriptWindow> windows, Instant start) {
+            this.agentId = agentId;
+            this.userId = userId;
+            this.sessionId = sessionId;
+            this.windows = windows;
+            this.start = start;
+            this.items = new BatchItem[windows.size()];
+            this.subtitles = new SubtitleDTO[windows.size()];
+        }
+
+        private synchronized void emitReady(int completed) {
+            while (nextToSchedule < items.length && items[nextToSchedule] != null) {
+                int index = nextToSchedule++;
+                writes = writes.thenRunAsync(() -> emit(index), aiExecutor);
+            }
+        }
+
+        /**
+         * @return conclusão da gravação das janelas liberadas até aqui
+         */
+        private synchronized CompletableFuture<Void> written() {
+            return writes;
+        }
+
+        private void emit(int index) {
+            TranscriptWindow window = windows.get(index);
+            BatchItem item = items[index];
+            if (item.error == null) {
+                try {
+                    createInteraction(agentId, userId, InteractionType.SUBTITLE_GENERATION, window.getText(),
+                        item.response, !item.degraded);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to record the interaction of subtitle window {} for session {}: {}",
+                        index, sessionId, e.getMessage());
+                }
+            }
+            String text = item.error == null && !item.degraded ? item.response : window.getText();
+            subtitles[index] = subtitleService.append(sessionId, text, start.plus(window.getOffset()));
+        }
+
+        private synchronized SubtitleGenerationResultDTO result() {
+            int succeeded = 0;
+            int degraded = 0;
+            for (BatchItem item : items) {
+                if (item.error == null && item.degraded) {
+                    degraded++;
+                } else if (item.error == null) {
+                    succeeded++;
+                }
+            }
+            return SubtitleGenerationResultDTO.builder()
+                .agentId(agentId)
+                .userId(userId)
+                .sessionId(sessionId)
+                .succeeded(succeeded)
+                .degraded(degraded)
+                .failed(items.length - succeeded - degraded)
+                .subtitles(List.of(subtitles))
+                .build();
+        }
+    }
+
+    private BatchItem toBatchItem(InteractionType type, String response, Throwable error) {
+        if (error == null) {
+            return new BatchItem(response, false, null);
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof AIServiceUnavailableException unavailable) {
+            log.warn("AI provider unavailable for batch {}: {}", type, unavailable.getMessage());
+            return new BatchItem(DEGRADED_RESPONSE, true, null);
+        }
+        log.error("Batch {} item failed", type, cause);
+        return new BatchItem(null, false, cause);
     }
 
-    private AgentInteractionDTO createInteraction(AIAgent agent, User user, InteractionType type, 
-                                                String action, String response) {
-        AgentInteraction interaction = AgentInteraction.builder()
-            .agent(agent)
-            .user(user)
+    /**
+     * Registra as interações das entradas atendidas (inclusive as degradadas) em um único
+     * batch JDBC, em uma transação, e monta o resultado na ordem das entradas.
+     * Executado em aiExecutor, fora da thread que concluiu a última chamada ao provedor.
+     */
+    private AIBatchResultDTO completeBatch(Long agentId, Long userId, InteractionType type,
+                                           List<String> inputs, BatchItem[] items) {
+        LocalDateTime timestamp = LocalDateTime.now();
+        List<AgentInteractionDTO> interactions = new ArrayList<>(items.length);
+        for (int i = 0; i < items.length; i++) {
+            if (items[i].error != null) {
+                continue;
+            }
+            interactions.add(AgentInteractionDTO.builder()
+                .agentId(agentId)
+                .userId(userId)
+                .type(type)
+                .action(inputs.get(i))
+                .response(items[i].response)
+                .timestamp(timestamp)
+                .successful(!items[i].degraded)
+                .build());
+        }
+        List<AgentInteractionDTO> saved = interactionMetrics.time(type, AIInteractionMetrics.PHASE_PERSIST,
+            () -> transactionTemplate.execute(status -> interactionWriteBehind.insertAll(interactions)));
+
+        List<AIBatchItemDTO> results = new ArrayList<>(items.length);
+        int succeeded = 0;
+        int degraded = 0;
+        for (int i = 0, r = 0; i < items.length; i++) {
+            if (items[i].error != null) {
+                results.add(AIBatchItemDTO.builder().index(i).successful(false).error(BATCH_ITEM_ERROR).build());
+                continue;
+            }
+            AgentInteractionDTO interaction = saved.get(r++);
+            if (interaction.isSuccessful()) {
+                succeeded++;
+            } else {
+                degraded++;
+            }
+            results.add(AIBatchItemDTO.builder()
+                .index(i)
+                .successful(interaction.isSuccessful())
+                .interaction(interaction)
+                .build());
+        }
+        return AIBatchResultDTO.builder()
+            .agentId(agentId)
+            .userId(userId)
             .type(type)
-            .action(action)
-            .response(response)
-            .timestamp(LocalDateTime.now())
-            .successful(true)
+            .succeeded(succeeded)
+            .degraded(degraded)
+            .failed(items.length - succeeded - degraded)
+            .items(results)
             .build();
-        
-        interaction = interactionRepository.save(interaction);
-        return mapToInteractionDTO(interaction);
+    }
+
+    /**
+     * Chamada assíncrona ao provedor correspondente ao tipo de operação, com a configuração do agente.
+     */
+    private CompletableFuture<String> callProviderAsync(InteractionType type, String input, AIAgentConfigSnapshot config) {
+        return switch (type) {
+            case VOICE_COMMAND -> aiExternalService.processVoiceCommandAsync(input, config.getNlpConfig());
+            case LAYOUT_ANALYSIS -> aiExternalService.analyzeLayoutAsync(input, config.getImageConfig());
+            case SUBTITLE_GENERATION -> aiExternalService.generateSubtitleAsync(input, config.getNlpConfig());
+            case IMAGE_DESCRIPTION -> aiExternalService.describeImageAsync(input, config.getImageConfig());
+            case LAYOUT_ADAPTATION -> aiExternalService.adaptLayoutAsync(input, config.getImageConfig());
+            case TASK_AUTOMATION -> aiExternalService.automateTaskAsync(input, config.getNlpConfig());
+            default -> throw new ValidationException("Operation " + type + " is not available in batch");
+        };
+    }
+
+    /**
+     * Chamada em streaming ao provedor correspondente ao tipo de operação.
+     */
+    private CompletableFuture<String> callProviderStream(InteractionType type, String input, AIAgentConfigSnapshot config,
+                                                         Consumer<String> onChunk) {
+        return switch (type) {
+            case VOICE_COMMAND -> aiExternalService.processVoiceCommandStream(input, config.getNlpConfig(), onChunk);
+            case LAYOUT_ANALYSIS -> aiExternalService.analyzeLayoutStream(input, config.getImageConfig(), onChunk);
+            case SUBTITLE_GENERATION -> aiExternalService.generateSubtitleStream(input, config.getNlpConfig(), onChunk);
+            case IMAGE_DESCRIPTION -> aiExternalService.describeImageStream(input, config.getImageConfig(), onChunk);
+            case LAYOUT_ADAPTATION -> aiExternalService.adaptLayoutStream(input, config.getImageConfig(), onChunk);
+            case TASK_AUTOMATION -> aiExternalService.automateTaskStream(input, config.getNlpConfig(), onChunk);
+            default -> throw new ValidationException("Operation " + type + " is not available in streaming");
+        };
+    }
+
+    private static void checkProviderType(InteractionType type, String mode) {
+        if (!PROVIDER_TYPES.contains(type)) {
+            throw new ValidationException("Operation " + type + " is not available in " + mode);
+        }
+    }
+
+    private static String outcomeOf(AgentInteractionDTO interaction) {
+        return interaction.isSuccessful() ? AIInteractionMetrics.OUTCOME_SUCCESS : AIInteractionMetrics.OUTCOME_DEGRADED;
+    }
+
+    /**
+     * Conclusão das variantes assíncronas: registra a interação com o resultado do provedor
+     * ou, se ele estiver indisponível, com a resposta degradada.
+     */
+    private AgentInteractionDTO completeInteraction(Long agentId, Long userId, InteractionType type,
+                                                    String action, String response, Throwable error) {
+        if (error == null) {
+            return createInteraction(agentId, userId, type, action, response, true);
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof AIServiceUnavailableException unavailable) {
+            return recordDegraded(agentId, userId, type, action, unavailable);
+        }
+        throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+    }
+
+    private AgentInteractionDTO recordDegraded(Long agentId, Long userId, InteractionType type,
+                                               String action, AIServiceUnavailableException e) {
+        log.warn("AI provider unavailable for {} (agent {}): {}", type, agentId, e.getMessage());
+        return createInteraction(agentId, userId, type, action, DEGRADED_RESPONSE, false);
+    }
+
+    /**
+     * Fase de escrita: registra a interação em uma transação curta,
+     * referenciando agente e usuário apenas pelos identificadores.
+     * Com o write-behind ativo, a interação é apenas enfileirada; se a fila estiver cheia,
+     * a gravação síncrona é usada como contrapressão.
+     */
+    private AgentInteractionDTO createInteraction(Long agentId, Long userId, InteractionType type,
+                                                String action, String response, boolean successful) {
+        return interactionMetrics.time(type, AIInteractionMetrics.PHASE_PERSIST,
+            () -> persistInteraction(agentId, userId, type, action, response, successful));
+    }
+
+    private AgentInteractionDTO persistInteraction(Long agentId, Long userId, InteractionType type,
+                                                   String action, String response, boolean successful) {
+        LocalDateTime timestamp = LocalDateTime.now();
+        if (interactionWriteBehind.isEnabled()) {
+            AgentInteractionDTO pending = AgentInteractionDTO.builder()
+                .agentId(agentId)
+                .userId(userId)
+                .timestamp(timestamp)
+                .type(type)
+                .action(action)
+                .response(response)
+                .successful(successful)
+                .build();
+            if (interactionWriteBehind.enqueue(pending)) {
+                return pending;
+            }
+        }
+        return transactionTemplate.execute(status -> {
+            AgentInteraction interaction = AgentInteraction.builder()
+                .agent(agentRepository.getReferenceById(agentId))
+                .user(userRepository.getReferenceById(userId))
+                .type(type)
+                .action(action)
+                .response(response)
+                .timestamp(timestamp)
+                .successful(successful)
+                .build();
+
+            return mapToInteractionDTO(interactionRepository.save(interaction));
+        });
     }
 
     // Métodos de mapeamento
     private AIAgentDTO mapToDTO(AIAgent agent) {
+        return mapToDTO(agent, activeUserIdsByAgent(List.of(agent.getId())).getOrDefault(agent.getId(), Set.of()));
+    }
+
+    private Page<AIAgentDTO> mapToDTOs(Page<AIAgent> agents) {
+        Map<Long, Set<Long>> activeUserIds = activeUserIdsByAgent(agents.map(AIAgent::getId).getContent());
+        return agents.map(agent -> mapToDTO(agent, activeUserIds.getOrDefault(agent.getId(), Set.of())));
+    }
+
+    private Map<Long, Set<Long>> activeUserIdsByAgent(Collection<Long> agentIds) {
+        if (agentIds.isEmpty()) {
+            return Map.of();
+        }
+        return agentRepository.findActiveUserLinks(agentIds).stream()
+            .collect(Collectors.groupingBy(AIAgentRepository.ActiveUserLink::getAgentId,
+                Collectors.mapping(AIAgentRepository.ActiveUserLink::getUserId, Collectors.toCollection(HashSet::new))));
+    }
+
+    private AIAgentDTO mapToDTO(AIAgent agent, Set<Long> activeUserIds) {
         return AIAgentDTO.builder()
             .id(agent.getId())
             .name(agent.getName())
@@ -208,9 +794,7 @@ public class AIAgentServiceImpl implements AIAgentService {
             .nlpConfig(mapToNLPConfigDTO(agent.getNlpConfig()))
             .imageConfig(mapToImageConfigDTO(agent.getImageConfig()))
             .voiceConfig(mapToVoiceConfigDTO(agent.getVoiceConfig()))
-            .activeUserIds(agent.getActiveUsers().stream()
-                .map(User::getId)
-                .collect(Collectors.toSet()))
+            .activeUserIds(activeUserIds)
             .build();
     }
 
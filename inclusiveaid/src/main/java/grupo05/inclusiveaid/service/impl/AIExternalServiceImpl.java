@@ -1,15 +1,48 @@
 package grupo05.inclusiveaid.service.impl;
 
 import grupo05.inclusiveaid.service.AIExternalService;
+import grupo05.inclusiveaid.service.VoiceIntentService;
 import grupo05.inclusiveaid.config.NLPConfig;
 import grupo05.inclusiveaid.config.ImageProcessingConfig;
+import grupo05.inclusiveaid.enums.InteractionType;
+import grupo05.inclusiveaid.exception.AIServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -27,11 +60,47 @@ import java.util.List;
  * de layouts, processamento de comandos de voz e automação de tarefas.
  * Quando a integração está desativada via propriedade <code>openai.enabled</code>,
  * métodos retornam respostas mock para facilitar desenvolvimento offline.
+ * <p>
+ * As respostas bem-sucedidas do provedor são mantidas em um cache limitado,
+ * endereçado pelo hash de (modelo, prompt, temperatura), evitando chamadas
+ * remotas repetidas para requisições idênticas.
+ * <p>
+ * Cada operação possui uma variante assíncrona, executada no executor de threads
+ * virtuais <code>aiExecutor</code> e limitada pelo timeout total
+ * <code>openai.http.total-timeout</code>.
+ * <p>
+ * Chamadas concorrentes com a mesma chave de requisição são coalescidas: apenas
+ * a primeira vai ao provedor e as demais aguardam e recebem o mesmo resultado.
+ * Nada é servido após a conclusão da chamada além do que já está no cache.
+ * <p>
+ * As variantes em streaming pedem ao provedor a resposta em Server-Sent Events
+ * (<code>stream: true</code>) e repassam cada trecho ao chamador conforme chega.
+ * O texto completo é armazenado no cache ao final; uma resposta já em cache
+ * é entregue como um único trecho. Streams não são coalescidos.
+ * <p>
+ * Toda chamada ao provedor passa pelo circuit breaker <code>aiServiceCircuitBreaker</code>
+ * e por um bulkhead do seu tipo de operação. Com o circuito aberto ou o bulkhead cheio
+ * a chamada é rejeitada imediatamente com {@link AIServiceUnavailableException}.
+ * <p>
+ * Comandos de voz passam antes pelo dicionário local ({@link VoiceIntentService});
+ * os reconhecidos são respondidos sem chamar o provedor, inclusive com a integração
+ * desativada, e apenas os demais seguem para o modelo.
  */
 public class AIExternalServiceImpl implements AIExternalService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final Cache<String, String> aiResponseCache;
+    private final ExecutorService aiExecutor;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker aiServiceCircuitBreaker;
+    private final BulkheadRegistry aiBulkheadRegistry;
+    private final VoiceIntentService voiceIntents;
+
+    /** Chamadas ao provedor em andamento, indexadas pela chave da requisição. */
+    private final Map<String, CompletableFuture<String>> inFlightRequests = new ConcurrentHashMap<>();
+
+    private Counter coalescedRequests;
 
     @Value("${openai.api.key}")
     private String apiKey;
@@ -42,24 +111,41 @@ public class AIExternalServiceImpl implements AIExternalService {
     @Value("${openai.enabled:false}")
     private boolean openaiEnabled;
 
+    @Value("${openai.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${openai.http.total-timeout:90s}")
+    private Duration totalTimeout;
+
+    @Value("${openai.coalescing.enabled:true}")
+    private boolean coalescingEnabled;
+
+    @PostConstruct
+    void registerMetrics() {
+        coalescedRequests = Counter.builder("ai.requests.coalesced")
+            .description("Chamadas ao provedor de IA atendidas por uma chamada idêntica já em andamento")
+            .register(meterRegistry);
+        meterRegistry.gauge("ai.requests.in_flight", inFlightRequests, Map::size);
+    }
+
     @Override
     /**
      * Processa um comando de voz utilizando modelo de linguagem.
      *
      * @param command texto já transcrito do comando de voz
      * @param config  configurações de NLP a serem utilizadas
-     * @return resposta textual gerada pelo modelo ou valor mock se desativado
+     * @return resposta da intenção reconhecida localmente, resposta textual gerada
+     *         pelo modelo ou valor mock se desativado
      */
     public String processVoiceCommand(String command, NLPConfig config) {
+        Optional<String> local = voiceIntents.match(command);
+        if (local.isPresent()) {
+            return local.get();
+        }
         if (!openaiEnabled) {
-            return "OpenAI integration is disabled. This is a mock response for: " + command;
+            return voiceCommandMock(command);
         }
-        Map<String, Object> request = new HashMap<>();
-        request.put("model", config.getLanguageModel());
-        request.put("prompt", "Process voice command: " + command);
-        request.put("temperature", 0.7);
-        
-        return callOpenAI(request);
+        return callOpenAI(InteractionType.VOICE_COMMAND, voiceCommandRequest(command, config));
     }
 
     @Override
@@ -74,12 +160,7 @@ public class AIExternalServiceImpl implements AIExternalService {
         if (!openaiEnabled) {
             return "OpenAI integration is disabled. This is a mock response for layout analysis.";
         }
-        Map<String, Object> request = new HashMap<>();
-        request.put("model", config.getObjectDetectionModel());
-        request.put("prompt", "Analyze layout: " + layoutData);
-        request.put("temperature", 0.5);
-        
-        return callOpenAI(request);
+        return callOpenAI(InteractionType.LAYOUT_ANALYSIS, analyzeLayoutRequest(layoutData, config));
     }
 
     @Override
@@ -94,12 +175,7 @@ public class AIExternalServiceImpl implements AIExternalService {
         if (!openaiEnabled) {
             return "OpenAI integration is disabled. This is a mock response for subtitle generation.";
         }
-        Map<String, Object> request = new HashMap<>();
-        request.put("model", config.getLanguageModel());
-        request.put("prompt", "Generate subtitle for: " + audioText);
-        request.put("temperature", 0.3);
-        
-        return callOpenAI(request);
+        return callOpenAI(InteractionType.SUBTITLE_GENERATION, subtitleRequest(audioText, config));
     }
 
     @Override
@@ -114,12 +190,7 @@ public class AIExternalServiceImpl implements AIExternalService {
         if (!openaiEnabled) {
             return "OpenAI integration is disabled. This is a mock response for image description.";
         }
-        Map<String, Object> request = new HashMap<>();
-        request.put("model", config.getObjectDetectionModel());
-        request.put("prompt", "Describe image: " + imageData);
-        request.put("temperature", 0.5);
-        
-        return callOpenAI(request);
+        return callOpenAI(InteractionType.IMAGE_DESCRIPTION, describeImageRequest(imageData, config));
     }
 
     @Override
@@ -134,12 +205,7 @@ public class AIExternalServiceImpl implements AIExternalService {
         if (!openaiEnabled) {
             return "OpenAI integration is disabled. This is a mock response for layout adaptation.";
         }
-        Map<String, Object> request = new HashMap<>();
-        request.put("model", config.getObjectDetectionModel());
-        request.put("prompt", "Adapt layout for accessibility: " + layoutData);
-        request.put("temperature", 0.4);
-        
-        return callOpenAI(request);
+        return callOpenAI(InteractionType.LAYOUT_ADAPTATION, adaptLayoutRequest(layoutData, config));
     }
 
     @Override
@@ -154,12 +220,7 @@ public class AIExternalServiceImpl implements AIExternalService {
         if (!openaiEnabled) {
             return "OpenAI integration is disabled. This is a mock response for task automation.";
         }
-        Map<String, Object> request = new HashMap<>();
-        request.put("model", config.getLanguageModel());
-        request.put("prompt", "Automate task: " + taskDescription);
-        request.put("temperature", 0.6);
-        
-        return callOpenAI(request);
+        return callOpenAI(InteractionType.TASK_AUTOMATION, automateTaskRequest(taskDescription, config));
     }
 
     @Override
@@ -178,39 +239,459 @@ public class AIExternalServiceImpl implements AIExternalService {
         // Normalmente envolveria ajuste fino do modelo com os dados fornecidos
     }
 
-    private String callOpenAI(Map<String, Object> request) {
+    @Override
+    public CompletableFuture<String> processVoiceCommandAsync(String command, NLPConfig config) {
+        Optional<String> local = voiceIntents.match(command);
+        if (local.isPresent()) {
+            return CompletableFuture.completedFuture(local.get());
+        }
+        if (!openaiEnabled) {
+            return CompletableFuture.completedFuture(voiceCommandMock(command));
+        }
+        return callOpenAIAsync(InteractionType.VOICE_COMMAND, voiceCommandRequest(command, config));
+    }
+
+    @Override
+    public CompletableFuture<String> analyzeLayoutAsync(String layoutData, ImageProcessingConfig config) {
+        if (!openaiEnabled) {
+            return CompletableFuture.completedFuture(analyzeLayout(layoutData, config));
+        }
+        return callOpenAIAsync(InteractionType.LAYOUT_ANALYSIS, analyzeLayoutRequest(layoutData, config));
+    }
+
+    @Override
+    public CompletableFuture<String> generateSubtitleAsync(String audioText, NLPConfig config) {
+        if (!openaiEnabled) {
+            return CompletableFuture.completedFuture(generateSubtitle(audioText, config));
+        }
+        return callOpenAIAsync(InteractionType.SUBTITLE_GENERATION, subtitleRequest(audioText, config));
+    }
+
+    @Override
+    public CompletableFuture<String> describeImageAsync(String imageData, ImageProcessingConfig config) {
+        if (!openaiEnabled) {
+            return CompletableFuture.completedFuture(describeImage(imageData, config));
+        }
+        return callOpenAIAsync(InteractionType.IMAGE_DESCRIPTION, describeImageRequest(imageData, config));
+    }
+
+    @Override
+    public CompletableFuture<String> adaptLayoutAsync(String layoutData, ImageProcessingConfig config) {
+        if (!openaiEnabled) {
+            return CompletableFuture.completedFuture(adaptLayout(layoutData, config));
+        }
+        return callOpenAIAsync(InteractionType.LAYOUT_ADAPTATION, adaptLayoutRequest(layoutData, config));
+    }
+
+    @Override
+    public CompletableFuture<String> automateTaskAsync(String taskDescription, NLPConfig config) {
+        if (!openaiEnabled) {
+            return CompletableFuture.completedFuture(automateTask(taskDescription, config));
+        }
+        return callOpenAIAsync(InteractionType.TASK_AUTOMATION, automateTaskRequest(taskDescription, config));
+    }
+
+    @Override
+    public CompletableFuture<String> processVoiceCommandStream(String command, NLPConfig config, Consumer<String> onChunk) {
+        Optional<String> local = voiceIntents.match(command);
+        if (local.isPresent()) {
+            return mockStream(local.get(), onChunk);
+        }
+        if (!openaiEnabled) {
+            return mockStream(voiceCommandMock(command), onChunk);
+        }
+        return callOpenAIStream(InteractionType.VOICE_COMMAND, voiceCommandRequest(command, config), onChunk);
+    }
+
+    @Override
+    public CompletableFuture<String> analyzeLayoutStream(String layoutData, ImageProcessingConfig config, Consumer<String> onChunk) {
+        if (!openaiEnabled) {
+            return mockStream(analyzeLayout(layoutData, config), onChunk);
+        }
+        return callOpenAIStream(InteractionType.LAYOUT_ANALYSIS, analyzeLayoutRequest(layoutData, config), onChunk);
+    }
+
+    @Override
+    public CompletableFuture<String> generateSubtitleStream(String audioText, NLPConfig config, Consumer<String> onChunk) {
+        if (!openaiEnabled) {
+            return mockStream(generateSubtitle(audioText, config), onChunk);
+        }
+        return callOpenAIStream(InteractionType.SUBTITLE_GENERATION, subtitleRequest(audioText, config), onChunk);
+    }
+
+    @Override
+    public CompletableFuture<String> describeImageStream(String imageData, ImageProcessingConfig config, Consumer<String> onChunk) {
+        if (!openaiEnabled) {
+            return mockStream(describeImage(imageData, config), onChunk);
+        }
+        return callOpenAIStream(InteractionType.IMAGE_DESCRIPTION, describeImageRequest(imageData, config), onChunk);
+    }
+
+    @Override
+    public CompletableFuture<String> adaptLayoutStream(String layoutData, ImageProcessingConfig config, Consumer<String> onChunk) {
+        if (!openaiEnabled) {
+            return mockStream(adaptLayout(layoutData, config), onChunk);
+        }
+        return callOpenAIStream(InteractionType.LAYOUT_ADAPTATION, adaptLayoutRequest(layoutData, config), onChunk);
+    }
+
+    @Override
+    public CompletableFuture<String> automateTaskStream(String taskDescription, NLPConfig config, Consumer<String> onChunk) {
+        if (!openaiEnabled) {
+            return mockStream(automateTask(taskDescription, config), onChunk);
+        }
+        return callOpenAIStream(InteractionType.TASK_AUTOMATION, automateTaskRequest(taskDescription, config), onChunk);
+    }
+
+    @Override
+    public CompletableFuture<String> generateSubtitleWindowAsync(String context, String audioText, NLPConfig config) {
+        if (context == null || context.isEmpty()) {
+            return generateSubtitleAsync(audioText, config);
+        }
+        if (!openaiEnabled) {
+            return CompletableFuture.completedFuture(generateSubtitle(audioText, config));
+        }
+        return callOpenAIAsync(InteractionType.SUBTITLE_GENERATION, subtitleWindowRequest(context, audioText, config));
+    }
+
+    private static String voiceCommandMock(String command) {
+        return "OpenAI integration is disabled. This is a mock response for: " + command;
+    }
+
+    private static CompletableFuture<String> mockStream(String text, Consumer<String> onChunk) {
+        onChunk.accept(text);
+        return CompletableFuture.completedFuture(text);
+    }
+
+    // Montagem das requisições de cada operação
+    private Map<String, Object> voiceCommandRequest(String command, NLPConfig config) {
+        return buildRequest(config.getLanguageModel(), "Process voice command: " + command, 0.7);
+    }
+
+    private Map<String, Object> analyzeLayoutRequest(String layoutData, ImageProcessingConfig config) {
+        return buildRequest(config.getObjectDetectionModel(), "Analyze layout: " + layoutData, 0.5);
+    }
+
+    private Map<String, Object> subtitleRequest(String audioText, NLPConfig config) {
+        return buildRequest(config.getLanguageModel(), "Generate subtitle for: " + audioText, 0.3);
+    }
+
+    private Map<String, Object> subtitleWindowRequest(String context, String audioText, NLPConfig config) {
+        return buildRequest(config.getLanguageModel(),
+            "Previous context (do not subtitle): " + context + "\nGenerate subtitle for: " + audioText, 0.3);
+    }
+
+    private Map<String, Object> describeImageRequest(String imageData, ImageProcessingConfig config) {
+        return buildRequest(config.getObjectDetectionModel(), "Describe image: " + imageData, 0.5);
+    }
+
+    private Map<String, Object> adaptLayoutRequest(String layoutData, ImageProcessingConfig config) {
+        return buildRequest(config.getObjectDetectionModel(), "Adapt layout for accessibility: " + layoutData, 0.4);
+    }
+
+    private Map<String, Object> automateTaskRequest(String taskDescription, NLPConfig config) {
+        return buildRequest(config.getLanguageModel(), "Automate task: " + taskDescription, 0.6);
+    }
+
+    private Map<String, Object> buildRequest(String model, String prompt, double temperature) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("model", model);
+        request.put("prompt", prompt);
+        request.put("temperature", temperature);
+        return request;
+    }
+
+    /**
+     * Executa a chamada ao provedor no executor de threads virtuais.
+     * Respostas presentes no cache são devolvidas imediatamente e chamadas idênticas
+     * em andamento são compartilhadas; cada chamador aplica o seu próprio timeout total.
+     *
+     * @param type    tipo de operação, que define o bulkhead utilizado
+     * @param request corpo da requisição (modelo, prompt e temperatura)
+     * @return futuro com o texto gerado pelo provedor, ou concluído com
+     *         {@link AIServiceUnavailableException} em caso de falha
+     */
+    private CompletableFuture<String> callOpenAIAsync(InteractionType type, Map<String, Object> request) {
+        String key = cacheKey(request);
+        String cached = cachedResponse(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> inFlightCall = joinInFlight(key, call);
+        if (inFlightCall == null) {
+            inFlightCall = call;
+            aiExecutor.execute(() -> {
+                try {
+                    executeShared(key, type, request, call);
+                } catch (AIServiceUnavailableException e) {
+                    // A falha já foi entregue aos chamadores através do futuro compartilhado
+                }
+            });
+        }
+        return inFlightCall.copy()
+            .orTimeout(totalTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .exceptionallyCompose(e -> CompletableFuture.failedFuture(asUnavailable(e)));
+    }
+
+    /**
+     * Executa a chamada em streaming ao provedor no executor de threads virtuais,
+     * limitada pelo timeout total. Após o timeout, a leitura do stream é interrompida
+     * no próximo trecho recebido.
+     *
+     * @param type    tipo de operação, que define o bulkhead utilizado
+     * @param request corpo da requisição (modelo, prompt e temperatura)
+     * @param onChunk destino de cada trecho do texto
+     * @return futuro com o texto completo, ou concluído com
+     *         {@link AIServiceUnavailableException} em caso de falha
+     */
+    private CompletableFuture<String> callOpenAIStream(InteractionType type, Map<String, Object> request,
+                                                       Consumer<String> onChunk) {
+        String key = cacheKey(request);
+        String cached = cachedResponse(key);
+        if (cached != null) {
+            return mockStream(cached, onChunk);
+        }
+        request.put("stream", true);
+        CompletableFuture<String> result = new CompletableFuture<String>()
+            .orTimeout(totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        aiExecutor.execute(() -> {
+            try {
+                String text = callGuarded(type, () -> requestCompletionStream(request, chunk -> {
+                    if (result.isDone()) {
+                        throw new CancellationException("Stream abandoned after " + totalTimeout);
+                    }
+                    onChunk.accept(chunk);
+                }));
+                if (cacheEnabled) {
+                    aiResponseCache.put(key, text);
+                }
+                result.complete(text);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.exceptionallyCompose(e -> CompletableFuture.failedFuture(asUnavailable(e)));
+    }
+
+    /**
+     * Envia a requisição ao provedor, consultando antes o cache de respostas
+     * e as chamadas idênticas em andamento.
+     *
+     * @param type    tipo de operação, que define o bulkhead utilizado
+     * @param request corpo da requisição (modelo, prompt e temperatura)
+     * @return texto gerado pelo provedor
+     * @throws AIServiceUnavailableException se o provedor não puder atender
+     */
+    private String callOpenAI(InteractionType type, Map<String, Object> request) {
+        String key = cacheKey(request);
+        String cached = cachedResponse(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> inFlightCall = joinInFlight(key, call);
+        if (inFlightCall != null) {
+            // Como no caminho assíncrono, o seguidor aplica o seu próprio timeout total
+            try {
+                return inFlightCall.get(totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw asUnavailable(e.getCause());
+            } catch (TimeoutException e) {
+                throw asUnavailable(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw asUnavailable(e);
+            }
+        }
+        return executeShared(key, type, request, call);
+    }
+
+    private String cachedResponse(String key) {
+        return cacheEnabled ? aiResponseCache.getIfPresent(key) : null;
+    }
+
+    /**
+     * Registra a chamada como em andamento para a chave informada.
+     *
+     * @return a chamada idêntica já em andamento, ou {@code null} se o chamador deve executá-la
+     */
+    private CompletableFuture<String> joinInFlight(String key, CompletableFuture<String> call) {
+        if (!coalescingEnabled) {
+            return null;
+        }
+        CompletableFuture<String> inFlightCall = inFlightRequests.putIfAbsent(key, call);
+        if (inFlightCall != null) {
+            coalescedRequests.increment();
+        }
+        return inFlightCall;
+    }
+
+    /**
+     * Executa a chamada ao provedor e publica o resultado para os chamadores coalescidos.
+     */
+    private String executeShared(String key, InteractionType type, Map<String, Object> request,
+                                 CompletableFuture<String> call) {
+        try {
+            String text = fetchCompletion(key, type, request);
+            call.complete(text);
+            return text;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, call);
+        }
+    }
+
+    /**
+     * Chama o provedor através do bulkhead da operação e do circuit breaker,
+     * e armazena no cache apenas respostas válidas; erros nunca são reaproveitados.
+     * Rejeições do bulkhead não são contabilizadas como falhas pelo circuito.
+     */
+    private String fetchCompletion(String key, InteractionType type, Map<String, Object> request) {
+        String text = callGuarded(type, () -> requestCompletion(request));
+        if (cacheEnabled) {
+            aiResponseCache.put(key, text);
+        }
+        return text;
+    }
+
+    /**
+     * Executa a chamada através do bulkhead do tipo de operação e do circuit breaker.
+     *
+     * @throws AIServiceUnavailableException se a chamada for rejeitada ou falhar
+     */
+    private String callGuarded(InteractionType type, Supplier<String> call) {
+        Bulkhead bulkhead = aiBulkheadRegistry.bulkhead("ai-" + type.name().toLowerCase());
+        Supplier<String> guardedCall = Bulkhead.decorateSupplier(bulkhead,
+            CircuitBreaker.decorateSupplier(aiServiceCircuitBreaker, call));
         try {
-            // Adiciona a API key nos headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + apiKey);
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(request, headers);
-            
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                apiUrl,
-                HttpMethod.POST,
-                entity,
-                new ParameterizedTypeReference<Map<String, Object>>() {}
+            return guardedCall.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new AIServiceUnavailableException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            throw new AIServiceUnavailableException("AI provider call failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Converte a falha de uma chamada (inclusive o timeout total) em {@link AIServiceUnavailableException}.
+     */
+    private AIServiceUnavailableException asUnavailable(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof AIServiceUnavailableException unavailable) {
+            return unavailable;
+        }
+        if (cause instanceof TimeoutException) {
+            return new AIServiceUnavailableException("AI provider call timed out after " + totalTimeout, cause);
+        }
+        return new AIServiceUnavailableException("AI provider call failed: " + cause.getMessage(), cause);
+    }
+
+    /**
+     * Executa a chamada HTTP ao provedor de IA.
+     *
+     * @param request corpo da requisição
+     * @return texto da primeira escolha retornada
+     * @throws IllegalStateException se o provedor não retornar nenhuma escolha
+     */
+    private String requestCompletion(Map<String, Object> request) {
+        // Adiciona a API key nos headers
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + apiKey);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            apiUrl,
+            HttpMethod.POST,
+            entity,
+            new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+
+        // Extrai o texto da resposta no formato retornado pela OpenAI
+        Map<String, Object> responseBody = response.getBody();
+        if (responseBody != null && responseBody.containsKey("choices")) {
+            List<Map<String, Object>> choices = objectMapper.convertValue(
+                responseBody.get("choices"),
+                objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
             );
+            if (!choices.isEmpty()) {
+                Map<String, Object> choice = choices.get(0);
+                String text = (String) choice.get("text");
+                if (text != null) {
+                    return text;
+                }
+            }
+        }
+        throw new IllegalStateException("AI provider returned no completion");
+    }
 
-            // Extrai o texto da resposta no formato retornado pela OpenAI
-            Map<String, Object> responseBody = response.getBody();
-            if (responseBody != null && responseBody.containsKey("choices")) {
-                List<Map<String, Object>> choices = objectMapper.convertValue(
-                    responseBody.get("choices"),
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
-                );
-                if (!choices.isEmpty()) {
-                    Map<String, Object> choice = choices.get(0);
-                    return (String) choice.get("text");
+    /**
+     * Executa a chamada HTTP em streaming ao provedor de IA, lendo a resposta em
+     * Server-Sent Events (<code>data: {...}</code> até <code>data: [DONE]</code>).
+     *
+     * @param request corpo da requisição, com <code>stream: true</code>
+     * @param onChunk destino do texto de cada evento recebido
+     * @return texto completo, concatenação dos trechos
+     * @throws IllegalStateException se o provedor não retornar nenhum trecho
+     */
+    private String requestCompletionStream(Map<String, Object> request, Consumer<String> onChunk) {
+        String text = restTemplate.execute(apiUrl, HttpMethod.POST,
+            httpRequest -> {
+                httpRequest.getHeaders().set("Authorization", "Bearer " + apiKey);
+                httpRequest.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                httpRequest.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                byte[] body = objectMapper.writeValueAsBytes(request);
+                httpRequest.getHeaders().setContentLength(body.length);
+                httpRequest.getBody().write(body);
+            },
+            response -> readStream(response, onChunk));
+        if (text == null || text.isEmpty()) {
+            throw new IllegalStateException("AI provider returned no completion");
+        }
+        return text;
+    }
+
+    private String readStream(ClientHttpResponse response, Consumer<String> onChunk) throws IOException {
+        StringBuilder text = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("data:")) {
+                    continue;
+                }
+                String data = line.substring("data:".length()).trim();
+                if ("[DONE]".equals(data)) {
+                    break;
+                }
+                JsonNode event = objectMapper.readTree(data);
+                String chunk = event.path("choices").path(0).path("text").asText("");
+                if (!chunk.isEmpty()) {
+                    text.append(chunk);
+                    onChunk.accept(chunk);
                 }
             }
-            
-            return "Error processing AI request";
-        } catch (Exception e) {
-            // Registra o erro e retorna uma resposta de fallback
-            return "Error: " + e.getMessage();
+        }
+        return text.toString();
+    }
+
+    /**
+     * Calcula a chave de cache de uma requisição: SHA-256 de modelo, prompt e temperatura.
+     *
+     * @param request corpo da requisição
+     * @return hash hexadecimal que identifica o conteúdo da requisição
+     */
+    private String cacheKey(Map<String, Object> request) {
+        String content = request.get("model") + "\0" + request.get("prompt") + "\0" + request.get("temperature");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
         }
     }
-} 
\ No newline at end of file
+}
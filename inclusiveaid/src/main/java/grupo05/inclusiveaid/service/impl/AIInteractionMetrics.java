@@ -0,0 +1,111 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.enums.InteractionType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Métricas das interações com agentes de IA, publicadas no Micrometer.
+ * <p>
+ * Para cada {@link InteractionType} são registrados:
+ * <ul>
+ *   <li><code>ai.interaction</code>: duração total, por resultado (success, degraded ou error);</li>
+ *   <li><code>ai.interaction.phase</code>: duração de cada fase — leitura do agente e do usuário
+ *       (load), chamada ao provedor (provider) e registro da interação (persist) —, separando o
+ *       tempo gasto no provedor do tempo gasto no banco de dados;</li>
+ *   <li><code>ai.interaction.payload.size</code>: tamanho da entrada enviada (layout, imagem, áudio transcrito etc.).</li>
+ * </ul>
+ * Os histogramas de percentis são habilitados por
+ * <code>management.metrics.distribution.percentiles-histogram.ai.interaction</code>.
+ * Os medidores são criados na inicialização, evitando a busca no registro a cada interação.
+ */
+@Component
+public class AIInteractionMetrics {
+
+    static final String PHASE_LOAD = "load";
+    static final String PHASE_PROVIDER = "provider";
+    static final String PHASE_PERSIST = "persist";
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_DEGRADED = "degraded";
+    static final String OUTCOME_ERROR = "error";
+
+    private static final List<String> PHASES = List.of(PHASE_LOAD, PHASE_PROVIDER, PHASE_PERSIST);
+    private static final List<String> OUTCOMES = List.of(OUTCOME_SUCCESS, OUTCOME_DEGRADED, OUTCOME_ERROR);
+
+    private final MeterRegistry registry;
+    private final Map<InteractionType, Map<String, Timer>> phaseTimers = new EnumMap<>(InteractionType.class);
+    private final Map<InteractionType, Map<String, Timer>> interactionTimers = new EnumMap<>(InteractionType.class);
+    private final Map<InteractionType, DistributionSummary> payloadSizes = new EnumMap<>(InteractionType.class);
+
+    public AIInteractionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (InteractionType type : InteractionType.values()) {
+            String typeTag = type.name().toLowerCase();
+
+            Map<String, Timer> phases = new HashMap<>();
+            for (String phase : PHASES) {
+                phases.put(phase, Timer.builder("ai.interaction.phase")
+                    .description("Duração de cada fase de uma interação com agente de IA")
+                    .tags("type", typeTag, "phase", phase)
+                    .register(registry));
+            }
+            phaseTimers.put(type, phases);
+
+            Map<String, Timer> outcomes = new HashMap<>();
+            for (String outcome : OUTCOMES) {
+                outcomes.put(outcome, Timer.builder("ai.interaction")
+                    .description("Duração total de uma interação com agente de IA")
+                    .tags("type", typeTag, "outcome", outcome)
+                    .register(registry));
+            }
+            interactionTimers.put(type, outcomes);
+
+            payloadSizes.put(type, DistributionSummary.builder("ai.interaction.payload.size")
+                .description("Tamanho da entrada enviada ao agente de IA, em caracteres")
+                .baseUnit("characters")
+                .tag("type", typeTag)
+                .register(registry));
+        }
+    }
+
+    /**
+     * Inicia a medição de uma interação ou de uma fase assíncrona.
+     */
+    Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Executa e mede uma fase síncrona da interação.
+     */
+    <T> T time(InteractionType type, String phase, Supplier<T> step) {
+        return phaseTimers.get(type).get(phase).record(step);
+    }
+
+    /**
+     * Encerra a medição de uma fase iniciada com {@link #start()}.
+     */
+    void recordPhase(InteractionType type, String phase, Timer.Sample sample) {
+        sample.stop(phaseTimers.get(type).get(phase));
+    }
+
+    /**
+     * Encerra a medição da interação completa com o seu resultado.
+     */
+    void recordInteraction(InteractionType type, String outcome, Timer.Sample sample) {
+        sample.stop(interactionTimers.get(type).get(outcome));
+    }
+
+    void recordPayload(InteractionType type, String payload) {
+        payloadSizes.get(type).record(payload != null ? payload.length() : 0);
+    }
+}
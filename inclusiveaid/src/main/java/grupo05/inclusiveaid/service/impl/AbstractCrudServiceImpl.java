@@ -1,14 +1,19 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
 import grupo05.inclusiveaid.mapper.EntityMapper;
+import grupo05.inclusiveaid.repository.BaseRepository;
 import grupo05.inclusiveaid.service.CrudService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.function.Function;
+
 /**
  * Implementação base para serviços CRUD.
  *
@@ -19,8 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public abstract class AbstractCrudServiceImpl<E, D> implements CrudService<D> {
 
-    private final JpaRepository<E, Long> repo;
+    private final BaseRepository<E> repo;
     private final EntityMapper<E, D> mapper;
+    private final Function<E, Long> idOf;
 
     @Override
     public D create(D dto) {
@@ -39,6 +45,16 @@ public abstract class AbstractCrudServiceImpl<E, D> implements CrudService<D> {
         return repo.findAll(PageRequest.of(page, size)).map(mapper::toDto);
     }
 
+    @Override
+    public CursorPage<D> listAfter(String cursor, int limit) {
+        return repo.findAfter(cursor, limit, idOf).map(mapper::toDto);
+    }
+
+    @Override
+    public Slice<D> listSlice(int page, int size) {
+        return repo.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+    }
+
     @Override
     public D update(Long id, D dto) {
         E entity = repo.findById(id)
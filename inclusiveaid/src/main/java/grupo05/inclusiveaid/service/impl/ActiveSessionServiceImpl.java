@@ -0,0 +1,37 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.exception.ResourceNotFoundException;
+import grupo05.inclusiveaid.repository.SessionRepository;
+import grupo05.inclusiveaid.service.ActiveSessionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cache de leitura (read-through) do estado das sessões, indexado pelo ID.
+ * Legendas, comandos de voz e assinaturas de eventos de uma sessão consultam a
+ * tabela de sessões apenas na primeira validação; o estado permanece em memória
+ * até o encerramento ou a exclusão da sessão, quando o {@link SessionServiceImpl}
+ * faz a invalidação. Sessões inexistentes não são armazenadas; sessões encerradas
+ * ficam registradas como inativas até expirarem por falta de acesso.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActiveSessionServiceImpl implements ActiveSessionService {
+
+    private final SessionRepository sessionRepository;
+
+    @Override
+    @Cacheable(cacheNames = "sessions", key = "#sessionId")
+    public boolean isActive(Long sessionId) {
+        return sessionRepository.findById(sessionId)
+            .map(session -> session.getEndedAt() == null)
+            .orElseThrow(() -> new ResourceNotFoundException("Session não encontrada"));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = "sessions", key = "#sessionId")
+    public void evict(Long sessionId) {
+    }
+}
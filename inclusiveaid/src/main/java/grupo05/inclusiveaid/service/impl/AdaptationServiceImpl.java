@@ -1,5 +1,6 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.AdaptationDTO;
 import grupo05.inclusiveaid.entity.Adaptation;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
@@ -8,6 +9,8 @@ import grupo05.inclusiveaid.repository.AdaptationRepository;
 import grupo05.inclusiveaid.service.AdaptationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,6 +41,16 @@ public class AdaptationServiceImpl implements AdaptationService {
                 .map(adaptationMapper::toDto);
     }
 
+    @Override
+    public CursorPage<AdaptationDTO> listAfter(String cursor, int limit) {
+        return adaptationRepository.findAfter(cursor, limit, Adaptation::getId).map(adaptationMapper::toDto);
+    }
+
+    @Override
+    public Slice<AdaptationDTO> listSlice(int page, int size) {
+        return adaptationRepository.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(adaptationMapper::toDto);
+    }
+
     /**
      * Busca uma adaptação pelo seu identificador.
      *
@@ -12,6 +12,6 @@ public class AgentInteractionServiceImpl extends AbstractCrudServiceImpl<AgentIn
         implements AgentInteractionService {
 
     public AgentInteractionServiceImpl(AgentInteractionRepository repo, AgentInteractionMapper mapper) {
-        super(repo, mapper);
+        super(repo, mapper, AgentInteraction::getId);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,300 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.dto.AgentInteractionDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Gravação em segundo plano (write-behind) das interações com agentes de IA.
+ * <p>
+ * Quando habilitada por <code>app.interactions.write-behind.enabled</code>, as interações
+ * são colocadas em uma fila limitada e um único escritor as grava em lotes JDBC,
+ * ao atingir <code>batch-size</code> registros ou após <code>flush-interval</code>.
+ * <p>
+ * Contrapressão: se a fila continuar cheia após <code>offer-timeout</code>, o registro
+ * é recusado e o chamador deve gravá-lo de forma síncrona. No encerramento da aplicação
+ * a fila deixa de aceitar registros e é esvaziada antes do fechamento do DataSource;
+ * o encerramento aguarda os enfileiramentos em andamento, de modo que toda interação
+ * aceita ({@code enqueue} retornou {@code true}) é gravada. O que o escritor não gravar
+ * dentro de <code>shutdown-timeout</code> é gravado de forma síncrona pelo encerramento;
+ * registros que ainda assim falharem são contados em
+ * <code>ai.interactions.write_behind.failed</code> e registrados no log como erro.
+ * Se o escritor terminar por um erro inesperado, a fila deixa de aceitar registros
+ * (os chamadores voltam a gravar de forma síncrona) e o restante é gravado na hora.
+ * <p>
+ * As interações gravadas por este caminho não têm id no retorno ao cliente,
+ * pois o id (IDENTITY) só é conhecido após o INSERT. Quem precisa do id grava de forma
+ * síncrona pelo mesmo INSERT com {@link #insertAll(List)}.
+ */
+@Component
+public class AgentInteractionWriteBehind implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(AgentInteractionWriteBehind.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO agent_interactions (agent_id, user_id, timestamp, type, action, response, successful) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<AgentInteractionDTO> queue;
+    /** Interações aceitas e ainda não gravadas (na fila ou no lote em montagem). */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Counter written;
+    private final Counter rejected;
+    private final Counter failed;
+
+    /**
+     * Enfileiramentos usam a trava de leitura e o encerramento a de escrita: depois que
+     * {@code running} é desligado nenhuma interação entra na fila sem ser vista pelo escritor.
+     */
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread writer;
+
+    public AgentInteractionWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.interactions.write-behind.enabled:false}") boolean enabled,
+            @Value("${app.interactions.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.interactions.write-behind.batch-size:200}") int batchSize,
+            @Value("${app.interactions.write-behind.flush-interval:500ms}") Duration flushInterval,
+            @Value("${app.interactions.write-behind.offer-timeout:20ms}") Duration offerTimeout,
+            @Value("${app.interactions.write-behind.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        meterRegistry.gauge("ai.interactions.write_behind.queue_depth", pending);
+        this.written = meterRegistry.counter("ai.interactions.write_behind.written");
+        this.rejected = meterRegistry.counter("ai.interactions.write_behind.rejected");
+        this.failed = meterRegistry.counter("ai.interactions.write_behind.failed");
+    }
+
+    /**
+     * @return {@code true} se o escritor está ativo e aceitando interações
+     */
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Enfileira uma interação para gravação em lote.
+     *
+     * @param interaction interação a ser gravada
+     * @return {@code false} se a fila permaneceu cheia ou o escritor está parado;
+     *         nesse caso a interação deve ser gravada pelo chamador
+     */
+    public boolean enqueue(AgentInteractionDTO interaction) {
+        lifecycle.readLock().lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            if (queue.offer(interaction, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                pending.incrementAndGet();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Grava as interações imediatamente, em um único batch JDBC, sem passar pela fila.
+     * Participa da transação corrente, se houver.
+     *
+     * @param interactions interações a serem gravadas
+     * @return as mesmas interações, na mesma ordem, com o id gerado pelo banco
+     */
+    public List<AgentInteractionDTO> insertAll(List<AgentInteractionDTO> interactions) {
+        if (interactions.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    bind(ps, interactions.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return interactions.size();
+                }
+            }, keys);
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < interactions.size(); i++) {
+            interactions.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+        return interactions;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform()
+            .name("interaction-write-behind")
+            .daemon(true)
+            .start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        close();
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Write-behind did not drain within {}; writing {} agent interactions synchronously",
+                shutdownTimeout, queue.size());
+            flushRemaining();
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    /**
+     * Encerrado depois do servidor web, para que as últimas requisições ainda sejam enfileiradas.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Deixa de aceitar interações; os chamadores passam a gravá-las de forma síncrona.
+     */
+    private void close() {
+        lifecycle.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+    }
+
+    private void drainLoop() {
+        List<AgentInteractionDTO> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    BatchDrain.fill(queue, batch, batchSize, flushInterval, () -> !running);
+                } catch (InterruptedException e) {
+                    close();
+                }
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    pending.addAndGet(-batch.size());
+                    batch.clear();
+                }
+            }
+        } finally {
+            if (running) {
+                // Escritor encerrado por um erro inesperado: a fila não seria mais esvaziada
+                log.error("Agent interaction writer stopped unexpectedly; falling back to synchronous inserts");
+                close();
+                flushRemaining();
+            }
+        }
+    }
+
+    /**
+     * Grava, na thread atual, o que ainda estiver na fila.
+     */
+    private void flushRemaining() {
+        List<AgentInteractionDTO> remaining = new ArrayList<>(queue.size());
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+            pending.addAndGet(-remaining.size());
+        }
+    }
+
+    /**
+     * Grava o lote em um único batch JDBC, em uma transação; se o lote falhar, nada dele
+     * fica gravado e os registros são gravados individualmente, para que um registro
+     * inválido não descarte os demais. Qualquer falha, inclusive ao abrir ou confirmar a
+     * transação (TransactionException), é tratada aqui para não encerrar o escritor.
+     */
+    private void flush(List<AgentInteractionDTO> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind));
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Batch insert of {} agent interactions failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (AgentInteractionDTO interaction : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, interaction));
+                    written.increment();
+                } catch (RuntimeException rowError) {
+                    failed.increment();
+                    log.error("Dropping agent interaction for agent {} and user {}: {}",
+                        interaction.getAgentId(), interaction.getUserId(), rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    private void bind(PreparedStatement ps, AgentInteractionDTO interaction) throws SQLException {
+        ps.setLong(1, interaction.getAgentId());
+        ps.setLong(2, interaction.getUserId());
+        ps.setObject(3, interaction.getTimestamp());
+        ps.setString(4, interaction.getType().name());
+        ps.setString(5, interaction.getAction());
+        ps.setString(6, interaction.getResponse());
+        ps.setBoolean(7, interaction.isSuccessful());
+    }
+}
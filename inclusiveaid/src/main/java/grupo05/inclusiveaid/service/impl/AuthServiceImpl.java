@@ -9,10 +9,12 @@ import grupo05.inclusiveaid.entity.User;
 import grupo05.inclusiveaid.repository.UserRepository;
 import grupo05.inclusiveaid.security.JwtService;
 import grupo05.inclusiveaid.service.AuthService;
+import grupo05.inclusiveaid.service.UserPrincipalService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,19 +24,22 @@ import org.springframework.stereotype.Service;
  * Serviço responsável por operações de autenticação e registro de usuários.
  * <p>
  * Implementa a emissão de JWT, autenticação via Spring Security e carregamento
- * de {@link UserDetails} a partir do e-mail cadastrado.
+ * de {@link UserDetails} a partir do e-mail cadastrado, servido pelo cache "users".
  */
 @Service
 public class AuthServiceImpl implements AuthService {
   private final UserRepository userRepo;
   private final JwtService jwtService;
   private final PasswordEncoder encoder;
+  private final UserPrincipalService userPrincipalService;
   private AuthenticationManager authManager;
 
-  public AuthServiceImpl(UserRepository userRepo, JwtService jwtService, PasswordEncoder encoder) {
+  public AuthServiceImpl(UserRepository userRepo, JwtService jwtService, PasswordEncoder encoder,
+                         UserPrincipalService userPrincipalService) {
     this.userRepo = userRepo;
     this.jwtService = jwtService;
     this.encoder = encoder;
+    this.userPrincipalService = userPrincipalService;
   }
 
   @Autowired
@@ -53,13 +58,10 @@ public class AuthServiceImpl implements AuthService {
    */
   @Override
   public AuthResponse authenticate(AuthRequest req) {
-    // autentica pelo Spring
-    authManager.authenticate(
+    // autentica pelo Spring; o principal autenticado já traz os dados do usuário
+    Authentication auth = authManager.authenticate(
       new UsernamePasswordAuthenticationToken(req.getEmail(), req.getPassword()));
-    // carrega usuário para extrair dados
-    User u = userRepo.findByEmail(req.getEmail())
-      .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
-    String token = jwtService.generateToken(u);
+    String token = jwtService.generateToken((UserDetails) auth.getPrincipal());
     return new AuthResponse(token);
   }
 
@@ -71,11 +73,9 @@ public class AuthServiceImpl implements AuthService {
    */
   @Override
   public LoginResponse login(LoginRequest request) {
-    authManager.authenticate(
+    Authentication auth = authManager.authenticate(
       new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
-    User user = userRepo.findByEmail(request.getEmail())
-      .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
-    String token = jwtService.generateToken(user);
+    String token = jwtService.generateToken((UserDetails) auth.getPrincipal());
     return new LoginResponse(token);
   }
 
@@ -106,7 +106,6 @@ public class AuthServiceImpl implements AuthService {
    */
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    return userRepo.findByEmail(username)
-      .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
+    return userPrincipalService.loadPrincipal(username);
   }
 }
\ No newline at end of file
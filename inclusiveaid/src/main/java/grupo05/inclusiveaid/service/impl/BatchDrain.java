@@ -0,0 +1,61 @@
+package grupo05.inclusiveaid.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Montagem de lotes a partir de uma fila, usada pelos escritores em lote
+ * (AgentInteractionWriteBehind e SubtitleIngestPipeline).
+ */
+final class BatchDrain {
+
+    /** Intervalo máximo de espera antes de reavaliar se a produção terminou. */
+    static final long POLL_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private BatchDrain() {
+    }
+
+    /**
+     * Acumula elementos até completar o lote ou esgotar o intervalo de flush, contado
+     * a partir do primeiro elemento do lote. A espera é feita em intervalos curtos para
+     * que o fim da produção seja percebido sem aguardar o intervalo de flush inteiro;
+     * depois dele, apenas o que já está na fila entra no lote.
+     *
+     * @param queue fila de origem
+     * @param batch lote em montagem
+     * @param batchSize tamanho máximo do lote
+     * @param flushInterval espera máxima desde o primeiro elemento do lote
+     * @param finished indica que nada mais será colocado na fila
+     */
+    static <T> void fill(BlockingQueue<T> queue, List<T> batch, int batchSize, Duration flushInterval,
+                         BooleanSupplier finished) throws InterruptedException {
+        long deadline = 0;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                if (deadline == 0) {
+                    deadline = System.nanoTime() + flushInterval.toNanos();
+                }
+                continue;
+            }
+            if (finished.getAsBoolean()) {
+                return;
+            }
+            long remaining = deadline == 0 ? POLL_SLICE_NANOS : deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            T next = queue.poll(Math.min(remaining, POLL_SLICE_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+                if (deadline == 0) {
+                    deadline = System.nanoTime() + flushInterval.toNanos();
+                }
+            } else if (deadline == 0) {
+                return;
+            }
+        }
+    }
+}
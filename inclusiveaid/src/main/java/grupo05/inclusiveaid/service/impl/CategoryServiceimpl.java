@@ -1,5 +1,6 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.CategoryDTO;
 import grupo05.inclusiveaid.entity.Category;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
@@ -8,6 +9,8 @@ import grupo05.inclusiveaid.repository.CategoryRepository;
 import grupo05.inclusiveaid.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
@@ -39,6 +42,16 @@ public class CategoryServiceImpl implements CategoryService {
         return repo.findAll(PageRequest.of(page, size)).map(mapper::toDto);
     }
 
+    @Override
+    public CursorPage<CategoryDTO> listAfter(String cursor, int limit) {
+        return repo.findAfter(cursor, limit, Category::getId).map(mapper::toDto);
+    }
+
+    @Override
+    public Slice<CategoryDTO> listSlice(int page, int size) {
+        return repo.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+    }
+
     @Override
     public CategoryDTO update(Long id, CategoryDTO dto) {
         Category entity = repo.findById(id)
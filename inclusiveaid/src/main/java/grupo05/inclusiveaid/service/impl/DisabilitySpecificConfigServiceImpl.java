@@ -14,6 +14,6 @@ public class DisabilitySpecificConfigServiceImpl
 
     public DisabilitySpecificConfigServiceImpl(DisabilitySpecificConfigRepository repo,
                                                DisabilitySpecificConfigMapper mapper) {
-        super(repo, mapper);
+        super(repo, mapper, DisabilitySpecificConfig::getId);
     }
 } 
\ No newline at end of file
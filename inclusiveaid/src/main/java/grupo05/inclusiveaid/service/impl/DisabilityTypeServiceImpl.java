@@ -1,5 +1,6 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.DisabilityTypeDTO;
 import grupo05.inclusiveaid.entity.DisabilityType;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
@@ -36,6 +37,16 @@ public class DisabilityTypeServiceImpl implements DisabilityTypeService {
     return repo.findAll(PageRequest.of(page,size)).map(mapper::toDto);
   }
 
+  @Override
+  public CursorPage<DisabilityTypeDTO> listAfter(String cursor, int limit) {
+    return repo.findAfter(cursor, limit, DisabilityType::getId).map(mapper::toDto);
+  }
+
+  @Override
+  public Slice<DisabilityTypeDTO> listSlice(int page, int size) {
+    return repo.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+  }
+
   @Override
   public DisabilityTypeDTO update(Long id,DisabilityTypeDTO dto) {
     DisabilityType e = repo.findById(id)
@@ -1,6 +1,8 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.FeedbackDTO;
+import grupo05.inclusiveaid.entity.Feedback;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
 import grupo05.inclusiveaid.mapper.FeedbackMapper;
 import grupo05.inclusiveaid.repository.FeedbackRepository;
@@ -48,6 +50,16 @@ public class FeedbackServiceImpl implements FeedbackService {
     return repo.findAll(PageRequest.of(page,size)).map(mapper::toDto);
   }
 
+  @Override
+  public CursorPage<FeedbackDTO> listAfter(String cursor, int limit) {
+    return repo.findAfter(cursor, limit, Feedback::getId).map(mapper::toDto);
+  }
+
+  @Override
+  public Slice<FeedbackDTO> listSlice(int page, int size) {
+    return repo.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+  }
+
   @Override
   public FeedbackDTO update(Long id, FeedbackDTO dto) {
     var existingFeedback = repo.findById(id)
@@ -10,6 +10,6 @@ import org.springframework.stereotype.Service;
 @Service
 public class LanguageServiceImpl extends AbstractCrudServiceImpl<Language, LanguageDTO> implements LanguageService {
     public LanguageServiceImpl(LanguageRepository repo, LanguageMapper mapper) {
-        super(repo, mapper);
+        super(repo, mapper, Language::getId);
     }
 } 
\ No newline at end of file
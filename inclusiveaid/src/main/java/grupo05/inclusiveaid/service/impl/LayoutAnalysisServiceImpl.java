@@ -1,6 +1,8 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.LayoutAnalysisDTO;
+import grupo05.inclusiveaid.entity.LayoutAnalysis;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
 import grupo05.inclusiveaid.mapper.LayoutAnalysisMapper;
 import grupo05.inclusiveaid.repository.LayoutAnalysisRepository;
@@ -62,6 +64,16 @@ public class LayoutAnalysisServiceImpl implements LayoutAnalysisService {
     return repo.findAll(PageRequest.of(page,size)).map(mapper::toDto);
   }
 
+  @Override
+  public CursorPage<LayoutAnalysisDTO> listAfter(String cursor, int limit) {
+    return repo.findAfter(cursor, limit, LayoutAnalysis::getId).map(mapper::toDto);
+  }
+
+  @Override
+  public Slice<LayoutAnalysisDTO> listSlice(int page, int size) {
+    return repo.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+  }
+
   @Override
   /**
    * Atualiza uma análise de layout existente.
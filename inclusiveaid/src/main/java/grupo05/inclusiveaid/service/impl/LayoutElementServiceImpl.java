@@ -11,6 +11,6 @@ import org.springframework.stereotype.Service;
 public class LayoutElementServiceImpl extends AbstractCrudServiceImpl<LayoutElement, LayoutElementDTO>
         implements LayoutElementService {
     public LayoutElementServiceImpl(LayoutElementRepository repo, LayoutElementMapper mapper) {
-        super(repo, mapper);
+        super(repo, mapper, LayoutElement::getId);
     }
 } 
\ No newline at end of file
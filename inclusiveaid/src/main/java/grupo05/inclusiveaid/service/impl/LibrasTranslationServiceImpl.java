@@ -1,5 +1,6 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.LibrasTranslationDTO;
 import grupo05.inclusiveaid.entity.LibrasTranslation;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
@@ -8,6 +9,8 @@ import grupo05.inclusiveaid.repository.LibrasTranslationRepository;
 import grupo05.inclusiveaid.service.LibrasTranslationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -102,4 +105,14 @@ public class LibrasTranslationServiceImpl implements LibrasTranslationService {
         return repository.findAll(PageRequest.of(page, size))
             .map(mapper::toDto);
     }
+
+    @Override
+    public CursorPage<LibrasTranslationDTO> listAfter(String cursor, int limit) {
+        return repository.findAfter(cursor, limit, LibrasTranslation::getId).map(mapper::toDto);
+    }
+
+    @Override
+    public Slice<LibrasTranslationDTO> listSlice(int page, int size) {
+        return repository.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+    }
 } 
\ No newline at end of file
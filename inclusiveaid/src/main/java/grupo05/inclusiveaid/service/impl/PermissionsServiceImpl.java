@@ -1,10 +1,13 @@
 package grupo05.inclusiveaid.service.impl;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.PermissionsDTO;
 import grupo05.inclusiveaid.entity.Permissions;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
@@ -79,6 +82,16 @@ public class PermissionsServiceImpl implements PermissionsService {
         return repository.findAll(PageRequest.of(page, size))
             .map(mapper::toDTO);
     }
+
+    @Override
+    public CursorPage<PermissionsDTO> listAfter(String cursor, int limit) {
+        return repository.findAfter(cursor, limit, Permissions::getId).map(mapper::toDTO);
+    }
+
+    @Override
+    public Slice<PermissionsDTO> listSlice(int page, int size) {
+        return repository.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDTO);
+    }
     
     /**
      * Atualiza uma permissão existente.
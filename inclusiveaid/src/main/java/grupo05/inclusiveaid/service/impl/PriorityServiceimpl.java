@@ -10,6 +10,6 @@ import org.springframework.stereotype.Service;
 @Service
 public class PriorityServiceImpl extends AbstractCrudServiceImpl<Priority, PriorityDTO> implements PriorityService {
     public PriorityServiceImpl(PriorityRepository repo, PriorityMapper mapper) {
-        super(repo, mapper);
+        super(repo, mapper, Priority::getId);
     }
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.ResponsibleDTO;
 import grupo05.inclusiveaid.entity.Responsible;
 import grupo05.inclusiveaid.entity.User;
@@ -9,6 +10,8 @@ import grupo05.inclusiveaid.repository.ResponsibleRepository;
 import grupo05.inclusiveaid.repository.UserRepository;
 import grupo05.inclusiveaid.service.ResponsibleService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -92,4 +95,14 @@ public class ResponsibleServiceImpl implements ResponsibleService {
         return responsibleRepository.findAll(PageRequest.of(page, size))
             .map(responsibleMapper::toDTO);
     }
+
+    @Override
+    public CursorPage<ResponsibleDTO> listAfter(String cursor, int limit) {
+        return responsibleRepository.findAfter(cursor, limit, Responsible::getId).map(responsibleMapper::toDTO);
+    }
+
+    @Override
+    public Slice<ResponsibleDTO> listSlice(int page, int size) {
+        return responsibleRepository.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(responsibleMapper::toDTO);
+    }
 }
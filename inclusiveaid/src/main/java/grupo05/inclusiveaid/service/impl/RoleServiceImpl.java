@@ -10,6 +10,6 @@ import org.springframework.stereotype.Service;
 @Service
 public class RoleServiceImpl extends AbstractCrudServiceImpl<Role, RoleDTO> implements RoleService {
     public RoleServiceImpl(RoleRepository repo, RoleMapper mapper) {
-        super(repo, mapper);
+        super(repo, mapper, Role::getId);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,190 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.config.SessionEventProperties;
+import grupo05.inclusiveaid.service.SessionEventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Distribuição (fan-out) de eventos de sessão por Server-Sent Events.
+ * <p>
+ * Cada sessão mantém o conjunto de conexões inscritas apenas enquanto houver
+ * ao menos um assinante. A publicação não escreve nos sockets: o evento é
+ * encadeado na fila de cada assinante e enviado em uma virtual thread, de modo
+ * que a criação da legenda ou do comando de voz não espera por clientes lentos
+ * e a ordem dos eventos é preservada por assinante.
+ * <p>
+ * O estado é local à instância: com várias instâncias da aplicação, o cliente
+ * recebe apenas os eventos criados na instância em que está conectado.
+ */
+@Service
+public class SessionEventServiceImpl implements SessionEventService {
+    private static final Logger log = LoggerFactory.getLogger(SessionEventServiceImpl.class);
+
+    /** Evento enviado a todos os assinantes quando a sessão é encerrada ou excluída. */
+    public static final String SESSION_ENDED = "session-ended";
+
+    private final SessionEventProperties properties;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final Counter published;
+    private final Counter dropped;
+
+    public SessionEventServiceImpl(SessionEventProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        meterRegistry.gauge("sessions.events.subscribers", connections);
+        this.published = meterRegistry.counter("sessions.events.published");
+        this.dropped = meterRegistry.counter("sessions.events.dropped_subscribers");
+    }
+
+    /**
+     * Inscreve um novo cliente nos eventos da sessão.
+     * A sessão deve ter sido validada pelo chamador.
+     *
+     * @param sessionId ID da sessão
+     * @return Emissor SSE da conexão
+     */
+    @Override
+    public SseEmitter subscribe(Long sessionId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(sessionId, emitter);
+        subscribers.compute(sessionId, (id, set) -> {
+            Set<Subscriber> current = set != null ? set : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+        connections.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    /**
+     * Publica um evento para todos os assinantes da sessão.
+     * Sem assinantes, a chamada não tem custo além de uma consulta ao mapa.
+     *
+     * @param sessionId ID da sessão
+     * @param event Nome do evento SSE
+     * @param payload Conteúdo do evento, serializado em JSON
+     */
+    @Override
+    public void publish(Long sessionId, String event, Object payload) {
+        Set<Subscriber> set = subscribers.get(sessionId);
+        if (set == null) {
+            return;
+        }
+        published.increment();
+        // O builder acumula texto a cada build(), por isso o evento é montado uma única vez
+        Set<DataWithMediaType> data = SseEmitter.event().name(event).data(payload, MediaType.APPLICATION_JSON).build();
+        for (Subscriber subscriber : set) {
+            subscriber.enqueue(data, false);
+        }
+    }
+
+    /**
+     * Envia o evento de encerramento e fecha todas as conexões da sessão.
+     *
+     * @param sessionId ID da sessão encerrada ou excluída
+     */
+    @Override
+    public void close(Long sessionId) {
+        Set<Subscriber> set = subscribers.remove(sessionId);
+        if (set == null) {
+            return;
+        }
+        Set<DataWithMediaType> data = SseEmitter.event().name(SESSION_ENDED)
+            .data(Map.of("sessionId", sessionId), MediaType.APPLICATION_JSON).build();
+        for (Subscriber subscriber : set) {
+            subscriber.enqueue(data, true);
+        }
+    }
+
+    /**
+     * Fecha as conexões abertas no encerramento da aplicação, para que o servidor
+     * não aguarde o timeout das requisições assíncronas.
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.removed.getAndSet(true)) {
+            return;
+        }
+        connections.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.sessionId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * Conexão inscrita em uma sessão, com sua fila de envios encadeados.
+     */
+    private final class Subscriber {
+        private final Long sessionId;
+        private final SseEmitter emitter;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        private Subscriber(Long sessionId, SseEmitter emitter) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+        }
+
+        private synchronized void enqueue(Set<DataWithMediaType> event, boolean last) {
+            if (removed.get()) {
+                return;
+            }
+            if (pending.incrementAndGet() > properties.getMaxPendingEvents()) {
+                log.debug("Assinante da sessão {} removido por excesso de eventos pendentes", sessionId);
+                dropped.increment();
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            tail = tail.thenRunAsync(() -> send(event, last), sender);
+        }
+
+        private void send(Set<DataWithMediaType> event, boolean last) {
+            pending.decrementAndGet();
+            if (removed.get() && !last) {
+                return;
+            }
+            try {
+                emitter.send(event);
+                if (last) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado: o container notifica o emissor e a inscrição é removida
+                remove(this);
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.SessionDTO;
 import grupo05.inclusiveaid.entity.Session;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
 import grupo05.inclusiveaid.mapper.SessionMapper;
 import grupo05.inclusiveaid.repository.SessionRepository;
 import grupo05.inclusiveaid.repository.UserRepository;
+import grupo05.inclusiveaid.service.ActiveSessionService;
+import grupo05.inclusiveaid.service.SessionEventService;
 import grupo05.inclusiveaid.service.SessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -14,6 +17,8 @@ import java.time.Instant;
 
 /**
  * Serviço que gerencia sessões de uso do sistema, incluindo seu ciclo de vida (início e término).
+ * Ao encerrar ou excluir uma sessão, o estado em cache é invalidado e os clientes
+ * inscritos nos eventos da sessão são desconectados.
  */
 @Service
 @RequiredArgsConstructor
@@ -21,6 +26,8 @@ public class SessionServiceImpl implements SessionService {
   private final SessionRepository repo;
   private final SessionMapper mapper;
   private final UserRepository userRepo;
+  private final ActiveSessionService activeSessions;
+  private final SessionEventService events;
 
   @Override
   public SessionDTO create(SessionDTO dto) {
@@ -41,14 +48,53 @@ public class SessionServiceImpl implements SessionService {
     return repo.findAll(PageRequest.of(page,size)).map(mapper::toDto);
   }
 
+  @Override
+  public CursorPage<SessionDTO> listAfter(String cursor, int limit) {
+    return repo.findAfter(cursor, limit, Session::getId).map(mapper::toDto);
+  }
+
+  @Override
+  public Slice<SessionDTO> listSlice(int page, int size) {
+    return repo.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+  }
+
+  /**
+   * Atualiza o usuário da sessão e a encerra como {@link #end(Long)}: o início registrado
+   * é mantido e o término só é registrado na primeira vez.
+   *
+   * @param id identificador da sessão
+   * @param dto dados da sessão; apenas o usuário é considerado
+   * @return sessão encerrada em formato DTO
+   * @throws ResourceNotFoundException caso a sessão ou o usuário não exista
+   */
   @Override
   public SessionDTO update(Long id,SessionDTO dto) {
-    if (!repo.existsById(id))
-      throw new ResourceNotFoundException("Session não encontrada");
-    dto.setEndTime(Instant.now().toString());
-    Session updated = mapper.toEntity(dto);
-    updated.setId(id);
-    return mapper.toDto(repo.save(updated));
+    Session session = repo.findById(id)
+      .orElseThrow(() -> new ResourceNotFoundException("Session não encontrada"));
+    session.setUser(userRepo.findById(dto.getUserId())
+      .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado")));
+    repo.save(session);
+    return end(id);
+  }
+
+  /**
+   * Encerra a sessão, registrando o término apenas na primeira chamada.
+   * A partir do encerramento as legendas da sessão não podem mais ser alteradas.
+   *
+   * @param id identificador da sessão
+   * @return sessão encerrada em formato DTO
+   * @throws ResourceNotFoundException caso a sessão não exista
+   */
+  @Override
+  public SessionDTO end(Long id) {
+    Session session = repo.findById(id)
+      .orElseThrow(() -> new ResourceNotFoundException("Session não encontrada"));
+    if (session.getEndedAt() == null) {
+      session.setEndedAt(Instant.now());
+      session = repo.save(session);
+      endSession(id);
+    }
+    return mapper.toDto(session);
   }
 
   @Override
@@ -56,5 +102,11 @@ public class SessionServiceImpl implements SessionService {
     if (!repo.existsById(id))
       throw new ResourceNotFoundException("Session não encontrada");
     repo.deleteById(id);
+    endSession(id);
+  }
+
+  private void endSession(Long id) {
+    activeSessions.evict(id);
+    events.close(id);
   }
 }
\ No newline at end of file
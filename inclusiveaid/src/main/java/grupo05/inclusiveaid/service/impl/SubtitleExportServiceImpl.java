@@ -0,0 +1,171 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.config.SubtitleExportProperties;
+import grupo05.inclusiveaid.enums.CaptionFormat;
+import grupo05.inclusiveaid.service.SubtitleExportService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Exportação das legendas de uma sessão em WebVTT ou SRT diretamente de um cursor JDBC.
+ * <p>
+ * As linhas são lidas em ordem de timestamp, em blocos de <code>fetch-size</code>, e cada
+ * legenda é escrita assim que a seguinte é lida (o início da seguinte é o fim da atual),
+ * de modo que a memória usada não depende do número de legendas da sessão.
+ * <p>
+ * Os tempos das legendas são relativos à origem informada (o início da sessão);
+ * legendas anteriores à origem começam em zero.
+ */
+@Service
+public class SubtitleExportServiceImpl implements SubtitleExportService {
+
+    private static final String SELECT_SQL =
+        "SELECT text, timestamp FROM subtitles WHERE session_id = ? ORDER BY timestamp, id";
+
+    private static final String REVISION_SQL =
+        "SELECT COUNT(*), COALESCE(MAX(id), 0) FROM subtitles WHERE session_id = ?";
+
+    /** Duração mínima de uma legenda, para que o fim seja sempre posterior ao início. */
+    private static final long MIN_CUE_MILLIS = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SubtitleExportProperties properties;
+
+    public SubtitleExportServiceImpl(DataSource dataSource, SubtitleExportProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.properties = properties;
+    }
+
+    /**
+     * Identifica o conjunto de legendas da sessão (quantidade e maior id), usado na ETag
+     * do arquivo de uma sessão encerrada: uma legenda gravada depois do encerramento
+     * produz uma nova ETag, em vez de ficar escondida por uma resposta em cache.
+     *
+     * @param sessionId ID da sessão
+     * @return Revisão das legendas da sessão
+     */
+    @Override
+    public String revision(Long sessionId) {
+        return jdbcTemplate.queryForObject(REVISION_SQL,
+            (rs, rowNum) -> rs.getLong(1) + "-" + rs.getLong(2), sessionId);
+    }
+
+    /**
+     * Escreve o arquivo de legendas da sessão no stream informado.
+     *
+     * @param sessionId ID da sessão
+     * @param origin Instante correspondente ao tempo zero do arquivo; se nulo, o da primeira legenda
+     * @param format Formato do arquivo
+     * @param out Stream de saída, que não é fechado
+     * @throws IOException se a escrita falhar (por exemplo, cliente desconectado)
+     */
+    @Override
+    public void export(Long sessionId, Instant origin, CaptionFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CueWriter cues = new CueWriter(writer, format, origin, properties.getMaxCueDuration().toMillis());
+        if (format == CaptionFormat.VTT) {
+            writer.write("WEBVTT\n\n");
+        }
+        try {
+            jdbcTemplate.query(SELECT_SQL, cues, sessionId);
+            cues.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Escreve cada legenda ao receber a seguinte, mantendo apenas uma legenda pendente.
+     */
+    private static final class CueWriter implements RowCallbackHandler {
+        private final Writer writer;
+        private final CaptionFormat format;
+        private final long maxCueMillis;
+        private Instant origin;
+        private int index;
+        private long pendingStart = -1;
+        private String pendingText;
+
+        private CueWriter(Writer writer, CaptionFormat format, Instant origin, long maxCueMillis) {
+            this.writer = writer;
+            this.format = format;
+            this.origin = origin;
+            this.maxCueMillis = maxCueMillis;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            String text = rs.getString(1);
+            Instant timestamp = rs.getTimestamp(2).toInstant();
+            if (origin == null) {
+                origin = timestamp;
+            }
+            long start = Math.max(0, Duration.between(origin, timestamp).toMillis());
+            try {
+                if (pendingText != null) {
+                    writeCue(pendingStart, Math.min(start, pendingStart + maxCueMillis), pendingText);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            pendingStart = start;
+            pendingText = text;
+        }
+
+        private void finish() throws IOException {
+            if (pendingText != null) {
+                writeCue(pendingStart, pendingStart + maxCueMillis, pendingText);
+            }
+        }
+
+        private void writeCue(long start, long end, String text) throws IOException {
+            String cueText = normalize(text);
+            if (cueText.isEmpty()) {
+                return;
+            }
+            end = Math.max(end, start + MIN_CUE_MILLIS);
+            index++;
+            writer.write(Integer.toString(index));
+            writer.write('\n');
+            writer.write(timecode(start));
+            writer.write(" --> ");
+            writer.write(timecode(end));
+            writer.write('\n');
+            writer.write(cueText);
+            writer.write("\n\n");
+        }
+
+        /**
+         * Remove linhas em branco, que encerrariam a legenda, e escapa o texto no WebVTT.
+         */
+        private String normalize(String text) {
+            String cueText = text == null ? "" : text.strip().replaceAll("\\s*\\R\\s*", "\n");
+            if (format == CaptionFormat.VTT) {
+                cueText = cueText.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+            }
+            return cueText;
+        }
+
+        private String timecode(long millis) {
+            char separator = format == CaptionFormat.SRT ? ',' : '.';
+            return String.format("%02d:%02d:%02d%c%03d",
+                millis / 3_600_000, millis / 60_000 % 60, millis / 1000 % 60, separator, millis % 1000);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package grupo05.inclusiveaid.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grupo05.inclusiveaid.config.SubtitleIngestProperties;
+import grupo05.inclusiveaid.dto.SubtitleDTO;
+import grupo05.inclusiveaid.dto.SubtitleIngestResultDTO;
+import grupo05.inclusiveaid.exception.ValidationException;
+import grupo05.inclusiveaid.repository.SessionRepository;
+import grupo05.inclusiveaid.service.SessionEventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingestão de legendas em streaming para uma sessão.
+ * <p>
+ * A thread da requisição lê o corpo linha a linha e coloca as legendas, já com o
+ * timestamp do servidor, em uma fila limitada; um escritor em virtual thread as
+ * grava em batches JDBC, ao atingir <code>batch-size</code> legendas ou após
+ * <code>flush-interval</code>. Com a fila cheia a leitura do corpo é suspensa, de
+ * modo que um banco lento reduz a vazão do cliente em vez de acumular linhas.
+ * <p>
+ * Cada batch é gravado em uma transação; se falhar, inclusive ao abrir ou confirmar a
+ * transação, as legendas são gravadas individualmente e as recusadas pelo banco são
+ * contadas como rejeitadas. Nenhuma falha de um lote encerra o escritor, e a requisição
+ * sempre recebe as contagens.
+ * Cada lote gravado é publicado no canal de eventos da sessão como um único evento
+ * "subtitles" (lista de legendas sem id, pois o id IDENTITY não é retornado pelo batch),
+ * para que uma rajada de linhas não esgote a fila de envio dos assinantes.
+ * <p>
+ * Antes de cada batch o escritor verifica no banco se a sessão continua ativa; encerrada
+ * a sessão, a leitura do corpo é interrompida e nenhuma legenda é mais gravada, para que
+ * o arquivo exportado de uma sessão encerrada não mude.
+ * <p>
+ * Toda linha recebida termina gravada ou rejeitada: além das inválidas e das recusadas
+ * pelo banco, contam como rejeitadas as que chegaram depois do encerramento da sessão e
+ * as que o escritor não chegou a aceitar por ter terminado antes.
+ */
+@Component
+public class SubtitleIngestPipeline {
+    private static final Logger log = LoggerFactory.getLogger(SubtitleIngestPipeline.class);
+
+    /** Nome do evento SSE publicado para cada lote gravado. */
+    public static final String EVENT = "subtitles";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO subtitles (session_id, text, timestamp) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final SessionEventService events;
+    private final SubtitleIngestProperties properties;
+    private final SessionRepository sessionRepository;
+
+    private final Counter written;
+    private final Counter rejected;
+
+    public SubtitleIngestPipeline(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            SessionEventService events,
+            SubtitleIngestProperties properties,
+            SessionRepository sessionRepository,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.events = events;
+        this.properties = properties;
+        this.sessionRepository = sessionRepository;
+        this.written = meterRegistry.counter("subtitles.ingest.written");
+        this.rejected = meterRegistry.counter("subtitles.ingest.rejected");
+    }
+
+    /**
+     * Lê o stream até o fim, ou até o encerramento da sessão, e grava as legendas na
+     * sessão informada. A sessão deve ter sido validada pelo chamador.
+     *
+     * @param sessionId ID da sessão
+     * @param reader Corpo da requisição
+     * @param json {@code true} para NDJSON (<code>{"text": "..."}</code> por linha),
+     *             {@code false} para uma legenda em texto puro por linha
+     * @return Contagem de linhas recebidas, gravadas e rejeitadas
+     * @throws ValidationException se o corpo não puder ser lido até o fim
+     */
+    public SubtitleIngestResultDTO ingest(Long sessionId, BufferedReader reader, boolean json) {
+        Writer writer = new Writer(sessionId);
+        FutureTask<Void> task = new FutureTask<>(writer, null);
+        Thread.ofVirtual().name("subtitle-ingest-" + sessionId).start(task);
+
+        int received = 0;
+        int invalid = 0;
+        int dropped = 0;
+        IOException readError = null;
+        try {
+            String line;
+            while (!task.isDone() && !writer.sessionEnded && (line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                received++;
+                String text = json ? parseText(line) : line.strip();
+                if (text == null || text.isBlank()) {
+                    invalid++;
+                    continue;
+                }
+                if (!writer.put(SubtitleDTO.builder().sessionId(sessionId).text(text).timestamp(Instant.now()).build(), task)) {
+                    dropped++;
+                }
+            }
+        } catch (IOException e) {
+            readError = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            writer.finished = true;
+        }
+
+        int lost = 0;
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // O que o escritor aceitou e não chegou a contar foi perdido com ele
+            lost = received - invalid - dropped - writer.written - writer.failed - writer.discarded;
+            log.error("Subtitle writer for session {} failed, {} subtitles lost", sessionId, lost, e.getCause());
+        }
+        rejected.increment(invalid + dropped + lost);
+        if (writer.sessionEnded) {
+            log.info("Session {} ended during subtitle ingestion; {} subtitles discarded", sessionId, writer.discarded);
+        }
+        if (readError != null) {
+            log.warn("Subtitle stream for session {} aborted after {} lines: {}", sessionId, received, readError.getMessage());
+            throw new ValidationException("Falha ao ler o stream de legendas", readError);
+        }
+        return SubtitleIngestResultDTO.builder()
+            .sessionId(sessionId)
+            .received(received)
+            .written(writer.written)
+            .rejected(invalid + dropped + lost + writer.failed + writer.discarded)
+            .batches(writer.batches)
+            .build();
+    }
+
+    private String parseText(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return node.path("text").isTextual() ? node.get("text").asText() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Escritor de um stream: acumula a fila em lotes e os grava até o fim da leitura.
+     */
+    private final class Writer implements Runnable {
+        private final Long sessionId;
+        private final BlockingQueue<SubtitleDTO> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        private volatile boolean finished;
+        private volatile boolean sessionEnded;
+        private int written;
+        private int failed;
+        /** Legendas descartadas por chegarem depois do encerramento da sessão. */
+        private int discarded;
+        private int batches;
+
+        private Writer(Long sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        /**
+         * Enfileira uma legenda, aguardando espaço na fila enquanto o escritor estiver ativo.
+         *
+         * @return {@code false} se o escritor terminou antes de haver espaço na fila
+         */
+        private boolean put(SubtitleDTO subtitle, FutureTask<Void> task) throws InterruptedException {
+            while (!queue.offer(subtitle, BatchDrain.POLL_SLICE_NANOS, TimeUnit.NANOSECONDS)) {
+                if (task.isDone()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            int batchSize = properties.getBatchSize();
+            List<SubtitleDTO> batch = new ArrayList<>(batchSize);
+            while (!finished || !queue.isEmpty()) {
+                try {
+                    BatchDrain.fill(queue, batch, batchSize, properties.getFlushInterval(), () -> finished);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    queue.drainTo(batch, batchSize - batch.size());
+                    finished = true;
+                }
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        /**
+         * Grava um lote. Nenhuma falha encerra o escritor: um lote que não pôde ser
+         * verificado ou gravado é contado como rejeitado e o escritor segue com o próximo.
+         */
+        private void flush(List<SubtitleDTO> batch) {
+            try {
+                if (!sessionEnded && !sessionRepository.existsByIdAndEndedAtIsNull(sessionId)) {
+                    sessionEnded = true;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not check session {} before writing {} subtitles: {}",
+                    sessionId, batch.size(), e.getMessage());
+                failed += batch.size();
+                rejected.increment(batch.size());
+                return;
+            }
+            if (sessionEnded) {
+                discarded += batch.size();
+                rejected.increment(batch.size());
+                return;
+            }
+            batches++;
+            List<SubtitleDTO> saved;
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind));
+                saved = List.copyOf(batch);
+            } catch (RuntimeException e) {
+                log.warn("Batch insert of {} subtitles for session {} failed, retrying individually: {}",
+                    batch.size(), sessionId, e.getMessage());
+                saved = insertEach(batch);
+            }
+            written += saved.size();
+            SubtitleIngestPipeline.this.written.increment(saved.size());
+            if (!saved.isEmpty()) {
+                publish(saved);
+            }
+        }
+
+        private List<SubtitleDTO> insertEach(List<SubtitleDTO> batch) {
+            List<SubtitleDTO> saved = new ArrayList<>(batch.size());
+            for (SubtitleDTO subtitle : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, subtitle));
+                    saved.add(subtitle);
+                } catch (RuntimeException rowError) {
+                    failed++;
+                    rejected.increment();
+                }
+            }
+            return saved;
+        }
+
+        /** As legendas já estão gravadas; uma falha na publicação não as torna rejeitadas. */
+        private void publish(List<SubtitleDTO> saved) {
+            try {
+                events.publish(sessionId, EVENT, saved);
+            } catch (RuntimeException e) {
+                log.warn("Could not publish {} subtitles for session {}: {}", saved.size(), sessionId, e.getMessage());
+            }
+        }
+
+        private void bind(PreparedStatement ps, SubtitleDTO subtitle) throws SQLException {
+            ps.setLong(1, subtitle.getSessionId());
+            ps.setString(2, subtitle.getText());
+            ps.setTimestamp(3, Timestamp.from(subtitle.getTimestamp()));
+        }
+    }
+}
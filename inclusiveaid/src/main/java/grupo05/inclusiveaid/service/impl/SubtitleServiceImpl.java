@@ -1,40 +1,99 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.SubtitleDTO;
+import grupo05.inclusiveaid.dto.SubtitleIngestResultDTO;
+import grupo05.inclusiveaid.entity.Subtitle;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
+import grupo05.inclusiveaid.exception.ValidationException;
 import grupo05.inclusiveaid.mapper.SubtitleMapper;
 import grupo05.inclusiveaid.repository.SessionRepository;
 import grupo05.inclusiveaid.repository.SubtitleRepository;
+import grupo05.inclusiveaid.service.ActiveSessionService;
+import grupo05.inclusiveaid.service.SessionEventService;
 import grupo05.inclusiveaid.service.SubtitleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import java.io.BufferedReader;
 import java.time.Instant;
 /**
  * Serviço responsável pelo gerenciamento de legendas geradas para sessões de usuário.
  * <p>
  * Permite criar, atualizar, excluir e consultar legendas, além de listá-las de forma paginada.
+ * Legendas criadas ou atualizadas são publicadas no canal de eventos da sessão.
  */
 @Service
 @RequiredArgsConstructor
 public class SubtitleServiceImpl implements SubtitleService {
   private final SubtitleRepository repo;
   private final SubtitleMapper mapper;
+  private final ActiveSessionService activeSessions;
+  private final SessionEventService events;
+  private final SubtitleIngestPipeline ingestPipeline;
   private final SessionRepository sessionRepo;
 
+  /** Nome do evento SSE publicado para legendas criadas ou atualizadas. */
+  public static final String EVENT = "subtitle";
+
   /**
-   * Cria uma nova legenda vinculada a uma sessão existente.
+   * Cria uma nova legenda vinculada a uma sessão ativa.
    *
    * @param dto dados da legenda a ser criada
    * @return legenda criada em formato DTO
    * @throws ResourceNotFoundException caso a sessão não exista
+   * @throws ValidationException caso a sessão já esteja encerrada
    */
   @Override
   public SubtitleDTO create(SubtitleDTO dto) {
-    sessionRepo.findById(dto.getSessionId())
-      .orElseThrow(() -> new ResourceNotFoundException("Session não encontrada"));
+    if (!activeSessions.isActive(dto.getSessionId()))
+      throw new ValidationException("Session já encerrada");
     dto.setTimestamp(Instant.now());
-    return mapper.toDto(repo.save(mapper.toEntity(dto)));
+    SubtitleDTO created = mapper.toDto(repo.save(mapper.toEntity(dto)));
+    events.publish(created.getSessionId(), EVENT, created);
+    return created;
+  }
+
+  /**
+   * Grava um stream de legendas de uma sessão ativa, validando a sessão uma única vez.
+   *
+   * @param sessionId identificador da sessão
+   * @param reader corpo da requisição, com uma legenda por linha
+   * @param json {@code true} para NDJSON, {@code false} para texto puro
+   * @return contagem de linhas recebidas, gravadas e rejeitadas
+   * @throws ResourceNotFoundException caso a sessão não exista
+   * @throws ValidationException caso a sessão já esteja encerrada ou o stream seja interrompido
+   */
+  @Override
+  public SubtitleIngestResultDTO ingest(Long sessionId, BufferedReader reader, boolean json) {
+    if (!activeSessions.isActive(sessionId))
+      throw new ValidationException("Session já encerrada");
+    return ingestPipeline.ingest(sessionId, reader, json);
+  }
+
+  /**
+   * Grava uma legenda gerada pelo sistema com o timestamp informado e a publica no canal
+   * de eventos da sessão. Como a geração pode durar mais que a sessão, o encerramento é
+   * verificado no banco a cada legenda.
+   *
+   * @param sessionId identificador da sessão
+   * @param text texto da legenda
+   * @param timestamp momento da legenda na sessão
+   * @return legenda criada em formato DTO
+   * @throws ValidationException caso a sessão já esteja encerrada
+   */
+  @Override
+  public SubtitleDTO append(Long sessionId, String text, Instant timestamp) {
+    if (!sessionRepo.existsByIdAndEndedAtIsNull(sessionId))
+      throw new ValidationException("Session já encerrada");
+    Subtitle subtitle = Subtitle.builder()
+      .session(sessionRepo.getReferenceById(sessionId))
+      .text(text)
+      .timestamp(timestamp)
+      .build();
+    SubtitleDTO created = mapper.toDto(repo.save(subtitle));
+    events.publish(sessionId, EVENT, created);
+    return created;
   }
 
   /**
@@ -62,6 +121,16 @@ public class SubtitleServiceImpl implements SubtitleService {
     return repo.findAll(PageRequest.of(page,size)).map(mapper::toDto);
   }
 
+  @Override
+  public CursorPage<SubtitleDTO> listAfter(String cursor, int limit) {
+    return repo.findAfter(cursor, limit, Subtitle::getId).map(mapper::toDto);
+  }
+
+  @Override
+  public Slice<SubtitleDTO> listSlice(int page, int size) {
+    return repo.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+  }
+
   /**
    * Atualiza o texto de uma legenda existente.
    *
@@ -69,16 +138,20 @@ public class SubtitleServiceImpl implements SubtitleService {
    * @param dto dados contendo o novo texto da legenda
    * @return legenda atualizada convertida em DTO
    * @throws ResourceNotFoundException caso a legenda não exista
+   * @throws ValidationException caso a sessão da legenda já esteja encerrada
    */
   @Override
   public SubtitleDTO update(Long id, SubtitleDTO dto) {
     var subtitle = repo.findById(id)
       .orElseThrow(() -> new ResourceNotFoundException("Subtitle não encontrada"));
+    requireOpenSession(subtitle);
     
     subtitle.setText(dto.getText());
     // Não atualizamos o timestamp pois é um campo que deve manter o valor original
     
-    return mapper.toDto(repo.save(subtitle));
+    SubtitleDTO updated = mapper.toDto(repo.save(subtitle));
+    events.publish(updated.getSessionId(), EVENT, updated);
+    return updated;
   }
 
   /**
@@ -86,11 +159,22 @@ public class SubtitleServiceImpl implements SubtitleService {
    *
    * @param id identificador da legenda
    * @throws ResourceNotFoundException caso a legenda não exista
+   * @throws ValidationException caso a sessão da legenda já esteja encerrada
    */
   @Override
   public void delete(Long id) {
-    if (!repo.existsById(id))
-      throw new ResourceNotFoundException("Subtitle não encontrada");
-    repo.deleteById(id);
+    var subtitle = repo.findById(id)
+      .orElseThrow(() -> new ResourceNotFoundException("Subtitle não encontrada"));
+    requireOpenSession(subtitle);
+    repo.delete(subtitle);
+  }
+
+  /**
+   * As legendas de uma sessão encerrada são definitivas: o arquivo exportado
+   * é identificado pelo término da sessão e pode ficar em cache nos clientes.
+   */
+  private void requireOpenSession(Subtitle subtitle) {
+    if (subtitle.getSession() != null && !activeSessions.isActive(subtitle.getSession().getId()))
+      throw new ValidationException("Session já encerrada");
   }
 }
\ No newline at end of file
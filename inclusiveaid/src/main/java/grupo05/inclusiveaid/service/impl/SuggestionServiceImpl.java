@@ -1,6 +1,8 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.SuggestionDTO;
+import grupo05.inclusiveaid.entity.Suggestion;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
 import grupo05.inclusiveaid.mapper.SuggestionMapper;
 import grupo05.inclusiveaid.repository.LayoutAnalysisRepository;
@@ -63,6 +65,16 @@ public class SuggestionServiceImpl implements SuggestionService {
     return repo.findAll(PageRequest.of(page,size)).map(mapper::toDto);
   }
 
+  @Override
+  public CursorPage<SuggestionDTO> listAfter(String cursor, int limit) {
+    return repo.findAfter(cursor, limit, Suggestion::getId).map(mapper::toDto);
+  }
+
+  @Override
+  public Slice<SuggestionDTO> listSlice(int page, int size) {
+    return repo.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+  }
+
   /**
    * Atualiza uma sugestão existente.
    *
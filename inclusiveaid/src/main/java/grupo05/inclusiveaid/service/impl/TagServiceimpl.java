@@ -10,6 +10,6 @@ import org.springframework.stereotype.Service;
 @Service
 public class TagServiceImpl extends AbstractCrudServiceImpl<Tag, TagDTO> implements TagService {
     public TagServiceImpl(TagRepository repo, TagMapper mapper) {
-        super(repo, mapper);
+        super(repo, mapper, Tag::getId);
     }
 } 
\ No newline at end of file
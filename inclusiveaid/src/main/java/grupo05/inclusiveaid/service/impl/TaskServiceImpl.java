@@ -1,5 +1,6 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.TaskDTO;
 import grupo05.inclusiveaid.entity.Task;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
@@ -8,6 +9,8 @@ import grupo05.inclusiveaid.repository.TaskRepository;
 import grupo05.inclusiveaid.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -63,6 +66,16 @@ public class TaskServiceImpl implements TaskService {
             .map(taskMapper::toDto);
     }
 
+    @Override
+    public CursorPage<TaskDTO> listAfter(String cursor, int limit) {
+        return taskRepository.findAfter(cursor, limit, Task::getId).map(taskMapper::toDto);
+    }
+
+    @Override
+    public Slice<TaskDTO> listSlice(int page, int size) {
+        return taskRepository.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(taskMapper::toDto);
+    }
+
     /**
      * Atualiza uma tarefa existente.
      *
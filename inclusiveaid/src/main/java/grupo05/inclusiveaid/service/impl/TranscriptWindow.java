@@ -0,0 +1,74 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.config.AISubtitleProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Janela de uma transcrição: o trecho a legendar e o final da janela anterior,
+ * enviado apenas como contexto. Os trechos não se sobrepõem, de modo que as
+ * legendas das janelas, na ordem, cobrem a transcrição inteira uma única vez.
+ */
+final class TranscriptWindow {
+    private final int index;
+    private final Duration offset;
+    private final String context;
+    private final String text;
+
+    private TranscriptWindow(int index, Duration offset, String context, String text) {
+        this.index = index;
+        this.offset = offset;
+        this.context = context;
+        this.text = text;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Posição estimada do início da janela na mídia.
+     */
+    Duration getOffset() {
+        return offset;
+    }
+
+    String getContext() {
+        return context;
+    }
+
+    String getText() {
+        return text;
+    }
+
+    /**
+     * Divide a transcrição em janelas de duração fixa, estimada pela taxa de fala.
+     *
+     * @param transcript Texto transcrito do áudio
+     * @param properties Duração da janela, da sobreposição e taxa de fala
+     * @return Janelas na ordem da transcrição; vazia se não houver palavras
+     */
+    static List<TranscriptWindow> split(String transcript, AISubtitleProperties properties) {
+        String trimmed = transcript == null ? "" : transcript.strip();
+        if (trimmed.isEmpty()) {
+            return List.of();
+        }
+        String[] words = trimmed.split("\\s+");
+        double wordsPerSecond = properties.getWordsPerSecond();
+        int windowWords = Math.max(1, (int) Math.round(properties.getWindow().toMillis() / 1000.0 * wordsPerSecond));
+        int overlapWords = Math.min(windowWords, (int) Math.round(properties.getOverlap().toMillis() / 1000.0 * wordsPerSecond));
+
+        List<TranscriptWindow> windows = new ArrayList<>(words.length / windowWords + 1);
+        for (int start = 0; start < words.length; start += windowWords) {
+            int end = Math.min(words.length, start + windowWords);
+            String context = String.join(" ", Arrays.copyOfRange(words, Math.max(0, start - overlapWords), start));
+            String text = String.join(" ", Arrays.copyOfRange(words, start, end));
+            Duration offset = Duration.ofMillis(Math.round(start / wordsPerSecond * 1000));
+            windows.add(new TranscriptWindow(windows.size(), offset, context, text));
+        }
+        return windows;
+    }
+}
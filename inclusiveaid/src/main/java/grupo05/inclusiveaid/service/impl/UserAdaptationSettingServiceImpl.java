@@ -11,6 +11,6 @@ import org.springframework.stereotype.Service;
 public class UserAdaptationSettingServiceImpl extends AbstractCrudServiceImpl<UserAdaptationSetting, UserAdaptationSettingDTO>
         implements UserAdaptationSettingService {
     public UserAdaptationSettingServiceImpl(UserAdaptationSettingRepository repo, UserAdaptationSettingMapper mapper) {
-        super(repo, mapper);
+        super(repo, mapper, UserAdaptationSetting::getId);
     }
 } 
\ No newline at end of file
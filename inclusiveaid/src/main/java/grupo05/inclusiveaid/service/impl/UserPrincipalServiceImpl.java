@@ -0,0 +1,36 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.repository.UserRepository;
+import grupo05.inclusiveaid.security.UserPrincipal;
+import grupo05.inclusiveaid.service.UserPrincipalService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cache de leitura (read-through) dos dados de autenticação, indexado pelo email.
+ * Logins e requisições autenticadas consultam a tabela de usuários apenas na
+ * primeira leitura de cada email ou após uma invalidação feita pelo
+ * {@link UserServiceImpl}. Emails inexistentes não são armazenados.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserPrincipalServiceImpl implements UserPrincipalService {
+
+    private final UserRepository userRepository;
+
+    @Override
+    @Cacheable(cacheNames = "users", key = "#email")
+    public UserPrincipal loadPrincipal(String email) {
+        return userRepository.findByEmail(email)
+            .map(UserPrincipal::from)
+            .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = "users", key = "#email")
+    public void evictPrincipal(String email) {
+    }
+}
@@ -1,23 +1,34 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.UserDTO;
 import grupo05.inclusiveaid.entity.User;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
 import grupo05.inclusiveaid.mapper.UserMapper;
 import grupo05.inclusiveaid.repository.UserRepository;
+import grupo05.inclusiveaid.security.JwtTokenCache;
+import grupo05.inclusiveaid.service.UserPrincipalService;
 import grupo05.inclusiveaid.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Serviço responsável pelo gerenciamento de usuários.
  * <p>
  * Provê operações CRUD, controle de senha (com hashing) e listagem paginada,
  * utilizando {@link UserMapper} para conversão entre entidade e DTO.
+ * <p>
+ * Alterações e remoções descartam a cópia do usuário no cache "users" e os
+ * tokens JWT já verificados, para que a próxima requisição reflita o novo
+ * estado da conta.
  */
 @Service
 @RequiredArgsConstructor
@@ -25,6 +36,8 @@ public class UserServiceImpl implements UserService {
   private final UserRepository userRepository;
   private final UserMapper userMapper;
   private final PasswordEncoder passwordEncoder;
+  private final JwtTokenCache jwtTokenCache;
+  private final UserPrincipalService userPrincipalService;
 
   /**
    * Cria um novo usuário no sistema.
@@ -66,6 +79,16 @@ public class UserServiceImpl implements UserService {
         .map(userMapper::toDto);
   }
 
+  @Override
+  public CursorPage<UserDTO> listAfter(String cursor, int limit) {
+    return userRepository.findAfter(cursor, limit, User::getId).map(userMapper::toDto);
+  }
+
+  @Override
+  public Slice<UserDTO> listSlice(int page, int size) {
+    return userRepository.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(userMapper::toDto);
+  }
+
   /**
    * Atualiza um usuário existente.
    *
@@ -89,6 +112,7 @@ public class UserServiceImpl implements UserService {
         user.setPassword(existingUser.getPassword());
     }
     
+    evictCachedUserAfterCommit(existingUser.getEmail());
     return userMapper.toDto(userRepository.save(user));
   }
 
@@ -101,9 +125,31 @@ public class UserServiceImpl implements UserService {
   @Override
   @Transactional
   public void delete(Long id) {
-    if (!userRepository.existsById(id)) {
-        throw new ResourceNotFoundException("User not found");
+    User user = userRepository.findById(id)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    userRepository.delete(user);
+    evictCachedUserAfterCommit(user.getEmail());
+  }
+
+  /**
+   * Descarta a cópia em cache e os tokens verificados do usuário após a confirmação da transação,
+   * evitando que uma requisição concorrente recoloque o estado antigo no cache.
+   */
+  private void evictCachedUserAfterCommit(String email) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evictCachedUser(email);
+      return;
     }
-    userRepository.deleteById(id);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        evictCachedUser(email);
+      }
+    });
+  }
+
+  private void evictCachedUser(String email) {
+    userPrincipalService.evictPrincipal(email);
+    jwtTokenCache.evictUser(email);
   }
 }
\ No newline at end of file
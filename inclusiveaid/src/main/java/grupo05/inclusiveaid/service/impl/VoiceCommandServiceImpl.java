@@ -1,10 +1,15 @@
 package grupo05.inclusiveaid.service.impl;
 
+import grupo05.inclusiveaid.dto.CursorPage;
 import grupo05.inclusiveaid.dto.VoiceCommandDTO;
 import grupo05.inclusiveaid.entity.VoiceCommand;
 import grupo05.inclusiveaid.exception.ResourceNotFoundException;
+import grupo05.inclusiveaid.exception.ValidationException;
 import grupo05.inclusiveaid.mapper.VoiceCommandMapper;
+import grupo05.inclusiveaid.repository.SessionRepository;
 import grupo05.inclusiveaid.repository.VoiceCommandRepository;
+import grupo05.inclusiveaid.service.ActiveSessionService;
+import grupo05.inclusiveaid.service.SessionEventService;
 import grupo05.inclusiveaid.service.VoiceCommandService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -16,25 +21,38 @@ import java.time.Instant;
  * <p>
  * Esta implementação oferece operações CRUD para {@link VoiceCommand}, garantindo
  * validação da existência de sessões, tratamento de exceções e conversão entre
- * entidade e DTO por meio do {@link VoiceCommandMapper}.
+ * entidade e DTO por meio do {@link VoiceCommandMapper}. Comandos vinculados a uma
+ * sessão são publicados no canal de eventos da sessão ao serem criados ou atualizados.
  */
 @Service
 @RequiredArgsConstructor
 public class VoiceCommandServiceImpl implements VoiceCommandService {
   private final VoiceCommandRepository repo;
   private final VoiceCommandMapper mapper;
+  private final SessionRepository sessionRepo;
+  private final ActiveSessionService activeSessions;
+  private final SessionEventService events;
+
+  /** Nome do evento SSE publicado para comandos de voz criados ou atualizados. */
+  public static final String EVENT = "voice-command";
 
   /**
-   * Cria um novo comando de voz associado a uma sessão existente.
+   * Cria um novo comando de voz, opcionalmente associado a uma sessão ativa.
    *
    * @param dto dados do comando de voz a serem persistidos
    * @return comando de voz criado em formato DTO
    * @throws ResourceNotFoundException caso a sessão indicada pelo ID não exista
+   * @throws ValidationException caso a sessão indicada já esteja encerrada
    */
   @Override
   public VoiceCommandDTO create(VoiceCommandDTO dto) {
+    if (dto.getSessionId() != null && !activeSessions.isActive(dto.getSessionId()))
+      throw new ValidationException("Session já encerrada");
     dto.setTimestamp(Instant.now().toString());
-    return mapper.toDto(repo.save(mapper.toEntity(dto)));
+    VoiceCommand command = mapper.toEntity(dto);
+    if (dto.getSessionId() != null)
+      command.setSession(sessionRepo.getReferenceById(dto.getSessionId()));
+    return publish(mapper.toDto(repo.save(command)));
   }
 
   /**
@@ -62,6 +80,16 @@ public class VoiceCommandServiceImpl implements VoiceCommandService {
     return repo.findAll(PageRequest.of(page,size)).map(mapper::toDto);
   }
 
+  @Override
+  public CursorPage<VoiceCommandDTO> listAfter(String cursor, int limit) {
+    return repo.findAfter(cursor, limit, VoiceCommand::getId).map(mapper::toDto);
+  }
+
+  @Override
+  public Slice<VoiceCommandDTO> listSlice(int page, int size) {
+    return repo.findAllBy(PageRequest.of(page, size, Sort.by("id"))).map(mapper::toDto);
+  }
+
   /**
    * Remove um comando de voz pelo seu ID.
    *
@@ -89,6 +117,12 @@ public class VoiceCommandServiceImpl implements VoiceCommandService {
       .orElseThrow(() -> new ResourceNotFoundException("VoiceCommand não encontrado"));
     
     mapper.updateEntity(dto, existingCommand);
-    return mapper.toDto(repo.save(existingCommand));
+    return publish(mapper.toDto(repo.save(existingCommand)));
+  }
+
+  private VoiceCommandDTO publish(VoiceCommandDTO command) {
+    if (command.getSessionId() != null)
+      events.publish(command.getSessionId(), EVENT, command);
+    return command;
   }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package grupo05.inclusiveaid.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dicionário compilado de comandos de voz: uma trie de palavras normalizadas.
+ * <p>
+ * Comando e padrões passam pela mesma normalização: letras minúsculas sem acentos,
+ * pontuação como separador e remoção das palavras ignoradas (fillers). Todos os padrões
+ * ficam na mesma trie, de modo que o comando é percorrido uma única vez, palavra a
+ * palavra, e a busca termina na primeira palavra sem continuação; comandos longos
+ * que não são de navegação são descartados logo no início.
+ * <p>
+ * O comando é reconhecido apenas quando todas as suas palavras formam um padrão:
+ * "não abrir menu" não corresponde a "abrir menu". A instância é imutável após
+ * a compilação e pode ser lida por várias threads.
+ * <p>
+ * Formato do arquivo:
+ * <pre>
+ * {
+ *   "fillers": ["por", "favor", "o", "a"],
+ *   "intents": [
+ *     {"name": "OPEN_MENU", "response": "menu aberto", "patterns": ["abrir menu", "abre o menu"]}
+ *   ]
+ * }
+ * </pre>
+ */
+final class VoiceIntentDictionary {
+    static final VoiceIntentDictionary EMPTY = new VoiceIntentDictionary(new Node(), Set.of(), 0, 0);
+
+    private final Node root;
+    private final Set<String> fillers;
+    private final int intents;
+    private final int patterns;
+
+    private VoiceIntentDictionary(Node root, Set<String> fillers, int intents, int patterns) {
+        this.root = root;
+        this.fillers = fillers;
+        this.intents = intents;
+        this.patterns = patterns;
+    }
+
+    /**
+     * Compila o dicionário a partir do JSON.
+     *
+     * @param source Conteúdo do arquivo
+     * @return Dicionário compilado
+     * @throws IllegalArgumentException se uma intenção estiver incompleta ou se um padrão,
+     *                                  após a normalização, estiver vazio ou pertencer a duas intenções
+     */
+    static VoiceIntentDictionary compile(JsonNode source) {
+        Set<String> fillers = new HashSet<>();
+        for (JsonNode filler : source.path("fillers")) {
+            Tokenizer tokens = new Tokenizer(filler.asText(), Set.of());
+            for (String word = tokens.next(); word != null; word = tokens.next()) {
+                fillers.add(word);
+            }
+        }
+
+        Node root = new Node();
+        int intents = 0;
+        int patterns = 0;
+        for (JsonNode intent : source.path("intents")) {
+            String name = intent.path("name").asText("");
+            String response = intent.path("response").asText("");
+            if (name.isBlank() || response.isBlank() || intent.path("patterns").isEmpty()) {
+                throw new IllegalArgumentException("Intenção sem nome, resposta ou padrões: " + intent);
+            }
+            intents++;
+            for (JsonNode pattern : intent.path("patterns")) {
+                Node node = root;
+                Tokenizer tokens = new Tokenizer(pattern.asText(), fillers);
+                for (String word = tokens.next(); word != null; word = tokens.next()) {
+                    node = node.children.computeIfAbsent(word, w -> new Node());
+                }
+                if (node == root) {
+                    throw new IllegalArgumentException("Padrão vazio após a normalização na intenção " + name
+                        + ": \"" + pattern.asText() + "\"");
+                }
+                if (node.intent == null) {
+                    node.intent = name;
+                    node.response = response;
+                    patterns++;
+                } else if (!node.intent.equals(name)) {
+                    throw new IllegalArgumentException("Padrão \"" + pattern.asText() + "\" associado às intenções "
+                        + node.intent + " e " + name);
+                }
+            }
+        }
+        return new VoiceIntentDictionary(root, Set.copyOf(fillers), intents, patterns);
+    }
+
+    /**
+     * Procura o comando na trie.
+     *
+     * @param command Texto do comando
+     * @return Resposta da intenção, ou {@code null} se nenhum padrão corresponder ao comando inteiro
+     */
+    String match(String command) {
+        Node node = root;
+        Tokenizer tokens = new Tokenizer(command, fillers);
+        for (String word = tokens.next(); word != null; word = tokens.next()) {
+            node = node.children.get(word);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.response;
+    }
+
+    int getIntents() {
+        return intents;
+    }
+
+    int getPatterns() {
+        return patterns;
+    }
+
+    int getFillers() {
+        return fillers.size();
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>(4);
+        private String intent;
+        private String response;
+    }
+
+    /**
+     * Separa o texto em palavras normalizadas, sob demanda, ignorando os fillers.
+     */
+    private static final class Tokenizer {
+        private final String text;
+        private final Set<String> fillers;
+        private final StringBuilder token = new StringBuilder(16);
+        private int position;
+
+        private Tokenizer(String text, Set<String> fillers) {
+            this.text = text;
+            this.fillers = fillers;
+        }
+
+        /**
+         * @return Próxima palavra normalizada, ou {@code null} no fim do texto
+         */
+        private String next() {
+            boolean ascii = true;
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (Character.isLetterOrDigit(c)) {
+                    token.append(c);
+                    ascii &= c < 128;
+                } else if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                    // Acento já decomposto (NFD): removido sem separar a palavra
+                    ascii = false;
+                } else if (!token.isEmpty()) {
+                    String word = fold(ascii);
+                    ascii = true;
+                    if (!fillers.contains(word)) {
+                        return word;
+                    }
+                }
+            }
+            if (token.isEmpty()) {
+                return null;
+            }
+            String word = fold(ascii);
+            return fillers.contains(word) ? next() : word;
+        }
+
+        private String fold(boolean ascii) {
+            String word = token.toString();
+            token.setLength(0);
+            if (!ascii) {
+                word = Normalizer.normalize(word, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+            }
+            return word.toLowerCase(Locale.ROOT);
+        }
+    }
+}
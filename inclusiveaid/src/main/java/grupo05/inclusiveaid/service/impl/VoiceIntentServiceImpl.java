@@ -0,0 +1,177 @@
+package grupo05.inclusiveaid.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grupo05.inclusiveaid.config.VoiceIntentProperties;
+import grupo05.inclusiveaid.dto.VoiceIntentDictionaryDTO;
+import grupo05.inclusiveaid.exception.ValidationException;
+import grupo05.inclusiveaid.service.VoiceIntentService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconhecimento local de comandos de voz a partir de um dicionário recarregável.
+ * <p>
+ * O dicionário compilado é imutável e substituído por inteiro a cada recarga, de modo
+ * que a busca não usa locks e nunca observa um dicionário parcial. Se a recarga falhar,
+ * o dicionário anterior continua em uso; na inicialização, a falha impede a subida da
+ * aplicação.
+ * <p>
+ * Métricas: <code>voice.intents.lookups</code> (tag <code>result</code>: hit ou miss),
+ * de onde sai a taxa de acerto, <code>voice.intents.patterns</code> e
+ * <code>voice.intents.reload_failures</code>.
+ */
+@Service
+public class VoiceIntentServiceImpl implements VoiceIntentService {
+    private static final Logger log = LoggerFactory.getLogger(VoiceIntentServiceImpl.class);
+
+    private final VoiceIntentProperties properties;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter reloadFailures;
+
+    private volatile VoiceIntentDictionary dictionary = VoiceIntentDictionary.EMPTY;
+    private volatile Instant loadedAt;
+    private long lastModified;
+    private ScheduledExecutorService watcher;
+
+    public VoiceIntentServiceImpl(
+            VoiceIntentProperties properties,
+            ResourceLoader resourceLoader,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.hits = meterRegistry.counter("voice.intents.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("voice.intents.lookups", "result", "miss");
+        this.reloadFailures = meterRegistry.counter("voice.intents.reload_failures");
+        meterRegistry.gauge("voice.intents.patterns", this, s -> s.dictionary.getPatterns());
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        reload();
+        long interval = properties.getReloadInterval().toMillis();
+        if (interval > 0) {
+            watcher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("voice-intents-watcher").daemon(true).factory());
+            watcher.scheduleWithFixedDelay(this::reloadIfModified, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+        }
+    }
+
+    /**
+     * Procura o comando no dicionário.
+     *
+     * @param command Texto transcrito do comando
+     * @return Resposta da intenção reconhecida, ou vazio se o reconhecimento estiver
+     *         desativado ou o comando não corresponder a nenhum padrão
+     */
+    @Override
+    public Optional<String> match(String command) {
+        if (!properties.isEnabled() || command == null) {
+            return Optional.empty();
+        }
+        String response = dictionary.match(command);
+        if (response == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(response);
+    }
+
+    /**
+     * Recarrega e recompila o dicionário.
+     *
+     * @return Estado do dicionário carregado
+     * @throws ValidationException se o reconhecimento estiver desativado ou o arquivo
+     *                             não puder ser lido ou for inválido
+     */
+    @Override
+    public synchronized VoiceIntentDictionaryDTO reload() {
+        if (!properties.isEnabled()) {
+            throw new ValidationException("Reconhecimento local de comandos de voz desativado");
+        }
+        Resource resource = resourceLoader.getResource(properties.getLocation());
+        long modified = lastModified(resource);
+        VoiceIntentDictionary compiled;
+        try (InputStream in = resource.getInputStream()) {
+            compiled = VoiceIntentDictionary.compile(objectMapper.readTree(in));
+        } catch (IOException | IllegalArgumentException e) {
+            // O monitor não relê a versão inválida, apenas a próxima alteração do arquivo
+            lastModified = modified;
+            reloadFailures.increment();
+            throw new ValidationException("Dicionário de comandos de voz inválido em "
+                + properties.getLocation() + ": " + e.getMessage(), e);
+        }
+        dictionary = compiled;
+        loadedAt = Instant.now();
+        lastModified = modified;
+        log.info("Voice intent dictionary loaded from {}: {} intents, {} patterns",
+            properties.getLocation(), compiled.getIntents(), compiled.getPatterns());
+        return getDictionary();
+    }
+
+    @Override
+    public VoiceIntentDictionaryDTO getDictionary() {
+        VoiceIntentDictionary current = dictionary;
+        Instant loaded = loadedAt;
+        return VoiceIntentDictionaryDTO.builder()
+            .location(properties.getLocation())
+            .intents(current.getIntents())
+            .patterns(current.getPatterns())
+            .fillers(current.getFillers())
+            .loadedAt(loaded != null ? loaded.toString() : null)
+            .build();
+    }
+
+    private void reloadIfModified() {
+        try {
+            long modified = lastModified(resourceLoader.getResource(properties.getLocation()));
+            synchronized (this) {
+                if (modified <= 0 || modified == lastModified) {
+                    return;
+                }
+            }
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Voice intent dictionary reload failed, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
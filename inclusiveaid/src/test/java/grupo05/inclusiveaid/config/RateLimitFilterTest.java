@@ -0,0 +1,152 @@
+package grupo05.inclusiveaid.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RateLimitProperties properties = new RateLimitProperties();
+  private RateLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    properties.getGroups().put("ai", group(List.of("/api/ai-agents/*/users/*/**"), 20, 10));
+    properties.getGroups().put("api", group(List.of("/api/**"), 3, 1));
+    filter = new RateLimitFilter(properties, Caffeine.newBuilder().build(), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void requestWithinLimitPassesWithQuotaHeaders() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request("/api/users", "10.0.0.1"), response, chain);
+
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("3");
+    assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("2");
+    assertThat(response.getHeader("X-RateLimit-Reset")).isNotNull();
+  }
+
+  @Test
+  void exhaustedBucketReturns429WithHeadersAndBody() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      filter.doFilter(request("/api/users", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request("/api/users", "10.0.0.1"), response, chain);
+
+    assertThat(chain.getRequest()).isNull();
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("3");
+    assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+    assertThat(Long.parseLong(response.getHeader("Retry-After"))).isPositive();
+    assertThat(response.getContentType()).isEqualTo("application/json");
+    assertThat(response.getContentAsString()).contains("\"status\":429");
+    assertThat(meterRegistry.counter("http.server.requests.rate_limited", "group", "api").count()).isEqualTo(1);
+  }
+
+  @Test
+  void eachClientHasItsOwnBucket() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      filter.doFilter(request("/api/users", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request("/api/users", "10.0.0.2"), response, new MockFilterChain());
+
+    assertThat(response.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void authenticatedUserIsLimitedAcrossAddresses() throws Exception {
+    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+        "ana@inclusiveaid.com", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    for (int i = 0; i < 3; i++) {
+      filter.doFilter(request("/api/users", "10.0.0." + i), new MockHttpServletResponse(), new MockFilterChain());
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request("/api/users", "10.0.0.9"), response, new MockFilterChain());
+
+    assertThat(response.getStatus()).isEqualTo(429);
+  }
+
+  @Test
+  void firstMatchingGroupAppliesItsCost() throws Exception {
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    filter.doFilter(request("/api/ai-agents/1/users/1/voice-command", "10.0.0.1"), first, new MockFilterChain());
+    filter.doFilter(request("/api/ai-agents/1/users/1/voice-command", "10.0.0.1"), new MockHttpServletResponse(),
+        new MockFilterChain());
+    MockHttpServletResponse third = new MockHttpServletResponse();
+    filter.doFilter(request("/api/ai-agents/1/users/1/voice-command", "10.0.0.1"), third, new MockFilterChain());
+
+    assertThat(first.getHeader("X-RateLimit-Limit")).isEqualTo("20");
+    assertThat(first.getHeader("X-RateLimit-Remaining")).isEqualTo("10");
+    assertThat(third.getStatus()).isEqualTo(429);
+
+    // O grupo "api" do mesmo cliente não foi consumido
+    MockHttpServletResponse other = new MockHttpServletResponse();
+    filter.doFilter(request("/api/ai-agents", "10.0.0.1"), other, new MockFilterChain());
+    assertThat(other.getStatus()).isEqualTo(200);
+    assertThat(other.getHeader("X-RateLimit-Remaining")).isEqualTo("2");
+  }
+
+  @Test
+  void pathOutsideAllGroupsIsNotLimited() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request("/actuator/health", "10.0.0.1"), response, chain);
+
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(response.getHeader("X-RateLimit-Limit")).isNull();
+  }
+
+  @Test
+  void disabledFilterLetsEverythingThrough() throws Exception {
+    properties.setEnabled(false);
+    for (int i = 0; i < 5; i++) {
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      filter.doFilter(request("/api/users", "10.0.0.1"), response, new MockFilterChain());
+      assertThat(response.getStatus()).isEqualTo(200);
+    }
+  }
+
+  private static MockHttpServletRequest request(String path, String remoteAddress) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    request.setRemoteAddr(remoteAddress);
+    return request;
+  }
+
+  private static RateLimitProperties.Group group(List<String> patterns, long capacity, long cost) {
+    RateLimitProperties.Group group = new RateLimitProperties.Group();
+    group.setPatterns(patterns);
+    group.setCapacity(capacity);
+    group.setPeriod(Duration.ofMinutes(1));
+    group.setCost(cost);
+    return group;
+  }
+}
@@ -0,0 +1,132 @@
+package grupo05.inclusiveaid.controller;
+
+import grupo05.inclusiveaid.dto.CursorPage;
+import grupo05.inclusiveaid.entity.Tag;
+import grupo05.inclusiveaid.exception.GlobalExceptionHandler;
+import grupo05.inclusiveaid.mapper.TagMapper;
+import grupo05.inclusiveaid.repository.TagRepository;
+import grupo05.inclusiveaid.service.impl.TagServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BaseCrudControllerTest {
+  private final List<Tag> tags = new ArrayList<>();
+  private final TagRepository repository = mock(TagRepository.class, CALLS_REAL_METHODS);
+  private MockMvc mvc;
+
+  @BeforeEach
+  void setUp() {
+    // Consulta keyset sobre uma lista em memória, em ordem de id
+    doAnswer(invocation -> {
+      long after = invocation.getArgument(0);
+      int max = invocation.<Limit>getArgument(1).max();
+      return tags.stream().filter(tag -> tag.getId() > after).limit(max).toList();
+    }).when(repository).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+    mvc = MockMvcBuilders
+        .standaloneSetup(new TagController(new TagServiceImpl(repository, Mappers.getMapper(TagMapper.class))))
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .build();
+  }
+
+  @Test
+  void firstPageStartsAtTheLowestId() throws Exception {
+    addTags(1, 2, 5, 8, 9);
+
+    mvc.perform(get("/api/v1/tags/scroll").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].id").value(contains(1, 2)))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        .andExpect(jsonPath("$.nextCursor").value(CursorPage.encode(2)));
+  }
+
+  @Test
+  void cursorContinuesAfterTheLastIdDelivered() throws Exception {
+    addTags(1, 2, 5, 8, 9);
+
+    mvc.perform(get("/api/v1/tags/scroll").param("cursor", CursorPage.encode(2)).param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].id").value(contains(5, 8)))
+        .andExpect(jsonPath("$.hasNext").value(true));
+    mvc.perform(get("/api/v1/tags/scroll").param("cursor", CursorPage.encode(8)).param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].id").value(contains(9)))
+        .andExpect(jsonPath("$.hasNext").value(false))
+        .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+  }
+
+  @Test
+  void pageThatEndsAtTheLastIdHasNoNext() throws Exception {
+    addTags(1, 2);
+
+    mvc.perform(get("/api/v1/tags/scroll").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].id").value(contains(1, 2)))
+        .andExpect(jsonPath("$.hasNext").value(false));
+    mvc.perform(get("/api/v1/tags/scroll").param("cursor", CursorPage.encode(2)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content").value(empty()))
+        .andExpect(jsonPath("$.hasNext").value(false));
+  }
+
+  @Test
+  void emptyTableReturnsAnEmptyPage() throws Exception {
+    mvc.perform(get("/api/v1/tags/scroll"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content").value(empty()))
+        .andExpect(jsonPath("$.hasNext").value(false));
+  }
+
+  @Test
+  void malformedOrTamperedCursorIsABadRequest() throws Exception {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    List<String> cursors = List.of(
+        "não é base64",
+        "AAAA",
+        encoder.encodeToString(new byte[Long.BYTES + 1]),
+        encoder.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(-1).array()));
+
+    for (String cursor : cursors) {
+      mvc.perform(get("/api/v1/tags/scroll").param("cursor", cursor))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+    verify(repository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+  }
+
+  @Test
+  void limitOutOfRangeIsABadRequest() throws Exception {
+    mvc.perform(get("/api/v1/tags/scroll").param("limit", "0"))
+        .andExpect(status().isBadRequest());
+    mvc.perform(get("/api/v1/tags/scroll").param("limit", String.valueOf(CursorPage.MAX_LIMIT + 1)))
+        .andExpect(status().isBadRequest());
+  }
+
+  private void addTags(long... ids) {
+    for (long id : ids) {
+      tags.add(Tag.builder().id(id).name("tag " + id).build());
+    }
+  }
+}
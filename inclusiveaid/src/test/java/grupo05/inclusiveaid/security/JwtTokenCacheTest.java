@@ -0,0 +1,126 @@
+package grupo05.inclusiveaid.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtTokenCacheTest {
+  private static final String SECRET = "test-secret-key-with-at-least-32-bytes!!";
+  private static final String EMAIL = "ana@inclusiveaid.com";
+
+  private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+  private final UserDetails user = User.withUsername(EMAIL).password("x").authorities("ROLE_USER").build();
+
+  @BeforeEach
+  void setUp() {
+    when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(user);
+  }
+
+  @Test
+  void validTokenIsVerifiedOnlyOnce() {
+    JwtService jwtService = new JwtService(SECRET, Duration.ofHours(1).toMillis());
+    JwtTokenCache cache = cache(jwtService, Duration.ofMinutes(15));
+    String token = jwtService.generateToken(user);
+
+    VerifiedToken first = cache.resolve(token);
+    VerifiedToken second = cache.resolve(token);
+
+    assertThat(first.getUsername()).isEqualTo(EMAIL);
+    assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    assertThat(second).isSameAs(first);
+    verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+  }
+
+  @Test
+  void forgedTokenIsRejectedWithoutLoadingTheUser() {
+    JwtService jwtService = new JwtService(SECRET, Duration.ofHours(1).toMillis());
+    JwtTokenCache cache = cache(jwtService, Duration.ofMinutes(15));
+    String forged = new JwtService("another-secret-key-with-at-least-32-bytes", Duration.ofHours(1).toMillis())
+        .generateToken(user);
+
+    assertThat(cache.resolve(forged)).isNull();
+    assertThat(cache.resolve("not-a-jwt")).isNull();
+    verify(userDetailsService, never()).loadUserByUsername(anyString());
+  }
+
+  @Test
+  void rejectedTokenIsNotCached() {
+    JwtService jwtService = new JwtService(SECRET, Duration.ofHours(1).toMillis());
+    JwtTokenCache cache = cache(jwtService, Duration.ofMinutes(15));
+    String token = jwtService.generateToken(user);
+    when(userDetailsService.loadUserByUsername(EMAIL))
+        .thenThrow(new UsernameNotFoundException(EMAIL))
+        .thenReturn(user);
+
+    assertThat(cache.resolve(token)).isNull();
+    assertThat(cache.resolve(token)).isNotNull();
+  }
+
+  @Test
+  void disabledUserIsRejected() {
+    JwtService jwtService = new JwtService(SECRET, Duration.ofHours(1).toMillis());
+    JwtTokenCache cache = cache(jwtService, Duration.ofMinutes(15));
+    String token = jwtService.generateToken(user);
+    when(userDetailsService.loadUserByUsername(EMAIL))
+        .thenReturn(User.withUserDetails(user).disabled(true).build());
+
+    assertThat(cache.resolve(token)).isNull();
+  }
+
+  @Test
+  void entryExpiresWithTheToken() throws InterruptedException {
+    JwtService jwtService = new JwtService(SECRET, 1500);
+    JwtTokenCache cache = cache(jwtService, Duration.ofMinutes(15));
+    String token = jwtService.generateToken(user);
+    assertThat(cache.resolve(token)).isNotNull();
+
+    Thread.sleep(2000);
+
+    assertThat(cache.resolve(token)).isNull();
+    verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+  }
+
+  @Test
+  void entryLifetimeIsCappedByMaxTtl() throws InterruptedException {
+    JwtService jwtService = new JwtService(SECRET, Duration.ofHours(1).toMillis());
+    JwtTokenCache cache = cache(jwtService, Duration.ofMillis(200));
+    String token = jwtService.generateToken(user);
+    assertThat(cache.resolve(token)).isNotNull();
+
+    Thread.sleep(400);
+
+    assertThat(cache.resolve(token)).isNotNull();
+    verify(userDetailsService, times(2)).loadUserByUsername(EMAIL);
+  }
+
+  @Test
+  void evictUserForcesVerificationAgain() {
+    JwtService jwtService = new JwtService(SECRET, Duration.ofHours(1).toMillis());
+    JwtTokenCache cache = cache(jwtService, Duration.ofMinutes(15));
+    String token = jwtService.generateToken(user);
+    cache.resolve(token);
+
+    cache.evictUser(EMAIL);
+    cache.resolve(token);
+
+    verify(userDetailsService, times(2)).loadUserByUsername(EMAIL);
+  }
+
+  private JwtTokenCache cache(JwtService jwtService, Duration maxTtl) {
+    return new JwtTokenCache(jwtService, userDetailsService, new SimpleMeterRegistry(), 100, maxTtl);
+  }
+}
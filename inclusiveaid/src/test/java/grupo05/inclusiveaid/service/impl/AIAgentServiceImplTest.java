@@ -0,0 +1,205 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.config.AIBatchProperties;
+import grupo05.inclusiveaid.config.AISubtitleProperties;
+import grupo05.inclusiveaid.dto.AIAgentConfigSnapshot;
+import grupo05.inclusiveaid.dto.AIBatchResultDTO;
+import grupo05.inclusiveaid.dto.AgentInteractionDTO;
+import grupo05.inclusiveaid.dto.SubtitleDTO;
+import grupo05.inclusiveaid.dto.SubtitleGenerationResultDTO;
+import grupo05.inclusiveaid.enums.InteractionType;
+import grupo05.inclusiveaid.exception.AIServiceUnavailableException;
+import grupo05.inclusiveaid.repository.AIAgentRepository;
+import grupo05.inclusiveaid.repository.AgentInteractionRepository;
+import grupo05.inclusiveaid.repository.UserRepository;
+import grupo05.inclusiveaid.service.AIAgentConfigService;
+import grupo05.inclusiveaid.service.AIExternalService;
+import grupo05.inclusiveaid.service.ActiveSessionService;
+import grupo05.inclusiveaid.service.SubtitleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AIAgentServiceImplTest {
+  private static final Long SESSION_ID = 7L;
+
+  private final AIExternalService aiExternalService = mock(AIExternalService.class);
+  private final SubtitleService subtitleService = mock(SubtitleService.class);
+  private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Map<String, CompletableFuture<String>> providerCalls = new ConcurrentHashMap<>();
+  private final List<String> appended = new CopyOnWriteArrayList<>();
+  private final List<Thread> writerThreads = new CopyOnWriteArrayList<>();
+  private AIAgentServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    AIAgentConfigService agentConfigService = mock(AIAgentConfigService.class);
+    when(agentConfigService.getAgentConfig(1L)).thenReturn(mock(AIAgentConfigSnapshot.class));
+    UserRepository userRepository = mock(UserRepository.class);
+    when(userRepository.existsById(1L)).thenReturn(true);
+    ActiveSessionService activeSessions = mock(ActiveSessionService.class);
+    when(activeSessions.isActive(SESSION_ID)).thenReturn(true);
+
+    // Uma palavra por janela, todas em paralelo
+    AISubtitleProperties subtitleProperties = new AISubtitleProperties();
+    subtitleProperties.setWindow(Duration.ofSeconds(1));
+    subtitleProperties.setOverlap(Duration.ZERO);
+    subtitleProperties.setWordsPerSecond(1);
+    subtitleProperties.setParallelism(4);
+
+    when(aiExternalService.generateSubtitleWindowAsync(anyString(), anyString(), any())).thenAnswer(invocation ->
+        providerCalls.computeIfAbsent(invocation.getArgument(1), text -> new CompletableFuture<>()));
+    when(subtitleService.append(eq(SESSION_ID), anyString(), any(Instant.class))).thenAnswer(invocation -> {
+      writerThreads.add(Thread.currentThread());
+      appended.add(invocation.getArgument(1));
+      return SubtitleDTO.builder().sessionId(SESSION_ID).text(invocation.getArgument(1))
+          .timestamp(invocation.getArgument(2)).build();
+    });
+
+    service = new AIAgentServiceImpl(mock(AIAgentRepository.class), mock(AgentInteractionRepository.class),
+        userRepository, aiExternalService, agentConfigService, mock(AgentInteractionWriteBehind.class),
+        transactionTemplate, new AIInteractionMetrics(new SimpleMeterRegistry()), new AIBatchProperties(),
+        subtitleProperties, activeSessions, subtitleService, executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void windowsCompletedOutOfOrderAreWrittenInOrder() throws Exception {
+    CompletableFuture<SubtitleGenerationResultDTO> result =
+        service.generateSubtitlesAsync(1L, 1L, SESSION_ID, "um dois tres quatro");
+    awaitProviderCalls(4);
+
+    complete("quatro");
+    complete("dois");
+    complete("tres");
+    assertThat(appended).isEmpty();
+    complete("um");
+
+    SubtitleGenerationResultDTO generated = result.get(5, TimeUnit.SECONDS);
+    assertThat(appended).containsExactly("UM", "DOIS", "TRES", "QUATRO");
+    assertThat(generated.getSubtitles()).extracting(SubtitleDTO::getText).containsExactly("UM", "DOIS", "TRES", "QUATRO");
+    assertThat(generated.getSucceeded()).isEqualTo(4);
+    assertThat(writerThreads).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  void interactionFailureStillWritesTheSubtitle() throws Exception {
+    when(transactionTemplate.execute(any())).thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+
+    CompletableFuture<SubtitleGenerationResultDTO> result = service.generateSubtitlesAsync(1L, 1L, SESSION_ID, "um dois");
+    awaitProviderCalls(2);
+    complete("um");
+    complete("dois");
+
+    assertThat(result.get(5, TimeUnit.SECONDS).getSubtitles()).extracting(SubtitleDTO::getText)
+        .containsExactly("UM", "DOIS");
+  }
+
+  @Test
+  void subtitleFailureStopsTheFollowingWindows() throws Exception {
+    when(subtitleService.append(eq(SESSION_ID), eq("DOIS"), any(Instant.class)))
+        .thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+
+    CompletableFuture<SubtitleGenerationResultDTO> result =
+        service.generateSubtitlesAsync(1L, 1L, SESSION_ID, "um dois tres");
+    awaitProviderCalls(3);
+    complete("tres");
+    complete("dois");
+    complete("um");
+
+    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+    assertThat(appended).containsExactly("UM");
+  }
+
+  @Test
+  void interactionIsRecordedOffTheProviderCompletionThread() throws Exception {
+    CompletableFuture<String> provider = new CompletableFuture<>();
+    when(aiExternalService.processVoiceCommandAsync(eq("abrir menu"), any())).thenReturn(provider);
+    when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+      writerThreads.add(Thread.currentThread());
+      return AgentInteractionDTO.builder().id(1L).response("menu aberto").successful(true).build();
+    });
+
+    CompletableFuture<AgentInteractionDTO> result = service.processVoiceCommandAsync(1L, 1L, "abrir menu");
+    provider.complete("menu aberto");
+
+    assertThat(result.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+    assertThat(writerThreads).hasSize(1).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  void degradedInteractionAfterTimeoutIsNotRecordedOnTheTimeoutThread() throws Exception {
+    when(aiExternalService.processVoiceCommandAsync(eq("abrir menu"), any()))
+        .thenReturn(new CompletableFuture<String>().orTimeout(50, TimeUnit.MILLISECONDS)
+            .exceptionally(error -> {
+              throw new AIServiceUnavailableException("AI provider timed out", error);
+            }));
+    when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+      writerThreads.add(Thread.currentThread());
+      return AgentInteractionDTO.builder().response(AIAgentServiceImpl.DEGRADED_RESPONSE).successful(false).build();
+    });
+
+    AgentInteractionDTO interaction = service.processVoiceCommandAsync(1L, 1L, "abrir menu").get(5, TimeUnit.SECONDS);
+
+    assertThat(interaction.isSuccessful()).isFalse();
+    assertThat(writerThreads).hasSize(1);
+    assertThat(writerThreads.get(0).getName()).doesNotContain("CompletableFutureDelayScheduler");
+  }
+
+  @Test
+  void batchIsRecordedOffTheProviderCompletionThread() throws Exception {
+    CompletableFuture<String> provider = new CompletableFuture<>();
+    when(aiExternalService.generateSubtitleAsync(eq("olá"), any())).thenReturn(provider);
+    when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+      writerThreads.add(Thread.currentThread());
+      return List.of(AgentInteractionDTO.builder().id(1L).response("legenda").successful(true).build());
+    });
+
+    CompletableFuture<AIBatchResultDTO> result =
+        service.interactBatchAsync(1L, 1L, InteractionType.SUBTITLE_GENERATION, List.of("olá"));
+    provider.complete("legenda");
+
+    assertThat(result.get(5, TimeUnit.SECONDS).getSucceeded()).isEqualTo(1);
+    assertThat(writerThreads).hasSize(1).doesNotContain(Thread.currentThread());
+  }
+
+  private void complete(String text) {
+    providerCalls.get(text).complete(text.toUpperCase());
+  }
+
+  private void awaitProviderCalls(int count) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (providerCalls.size() < count) {
+      assertThat(System.nanoTime()).as("chamadas ao provedor não iniciadas em 5s").isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+}
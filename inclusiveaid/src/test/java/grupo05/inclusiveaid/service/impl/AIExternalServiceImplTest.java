@@ -0,0 +1,336 @@
+package grupo05.inclusiveaid.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import grupo05.inclusiveaid.config.NLPConfig;
+import grupo05.inclusiveaid.exception.AIServiceUnavailableException;
+import grupo05.inclusiveaid.service.VoiceIntentService;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AIExternalServiceImplTest {
+  private static final String URL = "http://provider.test/v1/completions";
+
+  private final RestTemplate restTemplate = mock(RestTemplate.class);
+  private final Cache<String, String> cache = Caffeine.newBuilder().build();
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final NLPConfig config = NLPConfig.builder().languageModel("gpt-test").build();
+  private AIExternalServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    VoiceIntentService voiceIntents = mock(VoiceIntentService.class);
+    when(voiceIntents.match(anyString())).thenReturn(Optional.empty());
+    service = new AIExternalServiceImpl(restTemplate, new ObjectMapper(), cache, executor, meterRegistry,
+        CircuitBreaker.ofDefaults("ai-test"), BulkheadRegistry.ofDefaults(), voiceIntents);
+    ReflectionTestUtils.setField(service, "apiKey", "test-key");
+    ReflectionTestUtils.setField(service, "apiUrl", URL);
+    ReflectionTestUtils.setField(service, "openaiEnabled", true);
+    ReflectionTestUtils.setField(service, "cacheEnabled", true);
+    ReflectionTestUtils.setField(service, "coalescingEnabled", true);
+    ReflectionTestUtils.setField(service, "totalTimeout", Duration.ofSeconds(5));
+    service.registerMetrics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void identicalRequestIsServedFromCache() {
+    whenProviderCalled().thenReturn(completion("legenda"));
+
+    assertThat(service.generateSubtitle("olá", config)).isEqualTo("legenda");
+    assertThat(service.generateSubtitle("olá", config)).isEqualTo("legenda");
+
+    verifyProviderCalled(1);
+  }
+
+  @Test
+  void differentPromptsAreNotShared() {
+    whenProviderCalled().thenReturn(completion("primeira"), completion("segunda"));
+
+    assertThat(service.generateSubtitle("olá", config)).isEqualTo("primeira");
+    assertThat(service.automateTask("olá", config)).isEqualTo("segunda");
+
+    verifyProviderCalled(2);
+  }
+
+  @Test
+  void failedCallIsNotCached() {
+    whenProviderCalled()
+        .thenThrow(new ResourceAccessException("connection reset"))
+        .thenReturn(completion("legenda"));
+
+    assertThatThrownBy(() -> service.generateSubtitle("olá", config))
+        .isInstanceOf(AIServiceUnavailableException.class);
+    assertThat(cache.asMap()).isEmpty();
+    assertThat(service.generateSubtitle("olá", config)).isEqualTo("legenda");
+
+    verifyProviderCalled(2);
+  }
+
+  @Test
+  void emptyCompletionIsNotCached() {
+    whenProviderCalled()
+        .thenReturn(ResponseEntity.ok(Map.of("choices", List.of())))
+        .thenReturn(completion("legenda"));
+
+    assertThatThrownBy(() -> service.generateSubtitle("olá", config))
+        .isInstanceOf(AIServiceUnavailableException.class);
+    assertThat(service.generateSubtitle("olá", config)).isEqualTo("legenda");
+  }
+
+  @Test
+  void concurrentIdenticalCallsShareOneProviderCall() throws Exception {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    whenProviderCalled().thenAnswer(invocation -> {
+      entered.countDown();
+      release.await();
+      return completion("legenda");
+    });
+
+    List<CompletableFuture<String>> calls = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      calls.add(service.generateSubtitleAsync("olá", config));
+    }
+    assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+    Future<String> syncFollower = executor.submit(() -> service.generateSubtitle("olá", config));
+    await(() -> meterRegistry.counter("ai.requests.coalesced").count() == 5);
+    release.countDown();
+
+    for (CompletableFuture<String> call : calls) {
+      assertThat(call.get(5, TimeUnit.SECONDS)).isEqualTo("legenda");
+    }
+    assertThat(syncFollower.get(5, TimeUnit.SECONDS)).isEqualTo("legenda");
+    verifyProviderCalled(1);
+  }
+
+  @Test
+  void followersShareTheLeaderFailure() throws Exception {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    whenProviderCalled().thenAnswer(invocation -> {
+      entered.countDown();
+      release.await();
+      throw new ResourceAccessException("connection reset");
+    });
+
+    CompletableFuture<String> leader = service.generateSubtitleAsync("olá", config);
+    assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<String> follower = service.generateSubtitleAsync("olá", config);
+    release.countDown();
+
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AIServiceUnavailableException.class);
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AIServiceUnavailableException.class);
+    verifyProviderCalled(1);
+  }
+
+  @Test
+  void syncFollowerAppliesItsOwnTimeout() throws Exception {
+    ReflectionTestUtils.setField(service, "totalTimeout", Duration.ofMillis(200));
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    whenProviderCalled().thenAnswer(invocation -> {
+      entered.countDown();
+      release.await();
+      return completion("legenda");
+    });
+
+    service.generateSubtitleAsync("olá", config);
+    assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+    long start = System.nanoTime();
+    try {
+      assertThatThrownBy(() -> service.generateSubtitle("olá", config))
+          .isInstanceOf(AIServiceUnavailableException.class)
+          .hasMessageContaining("timed out");
+      assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void streamForwardsEachChunkAndCachesTheText() throws Exception {
+    List<MockClientHttpRequest> requests = new CopyOnWriteArrayList<>();
+    whenStreamRequested().thenAnswer(invocation -> {
+      MockClientHttpRequest request = new MockClientHttpRequest();
+      invocation.<RequestCallback>getArgument(2).doWithRequest(request);
+      requests.add(request);
+      return invocation.<ResponseExtractor<String>>getArgument(3).extractData(sse(
+          ": keep-alive",
+          "data: {\"choices\": [{\"text\": \"le\"}]}",
+          "",
+          "data: {\"choices\": [{\"text\": \"\"}]}",
+          "data: {\"choices\": [{\"text\": \"genda\"}]}",
+          "data: [DONE]",
+          "data: {\"choices\": [{\"text\": \" depois do fim\"}]}"));
+    });
+    List<String> chunks = new CopyOnWriteArrayList<>();
+
+    assertThat(service.generateSubtitleStream("olá", config, chunks::add).get(5, TimeUnit.SECONDS))
+        .isEqualTo("legenda");
+    assertThat(chunks).containsExactly("le", "genda");
+    assertThat(requests).hasSize(1);
+    assertThat(requests.get(0).getHeaders().getAccept()).containsExactly(MediaType.TEXT_EVENT_STREAM);
+    assertThat(requests.get(0).getBodyAsString()).contains("\"stream\":true");
+
+    // A segunda chamada é servida pelo cache, entregue como um único trecho
+    chunks.clear();
+    assertThat(service.generateSubtitleStream("olá", config, chunks::add).get(5, TimeUnit.SECONDS))
+        .isEqualTo("legenda");
+    assertThat(chunks).containsExactly("legenda");
+    assertThat(service.generateSubtitle("olá", config)).isEqualTo("legenda");
+    verifyStreamRequested(1);
+    verifyProviderCalled(0);
+  }
+
+  @Test
+  void emptyStreamFailsAndIsNotCached() {
+    whenStreamRequested().thenAnswer(invocation ->
+        invocation.<ResponseExtractor<String>>getArgument(3).extractData(sse("data: [DONE]")));
+    List<String> chunks = new CopyOnWriteArrayList<>();
+
+    assertThatThrownBy(() -> service.generateSubtitleStream("olá", config, chunks::add).get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(AIServiceUnavailableException.class);
+    assertThat(chunks).isEmpty();
+    assertThat(cache.asMap()).isEmpty();
+  }
+
+  @Test
+  void streamIsAbandonedAfterTheTimeout() throws Exception {
+    ReflectionTestUtils.setField(service, "totalTimeout", Duration.ofMillis(200));
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Throwable> readerOutcome = new CompletableFuture<>();
+    whenStreamRequested().thenAnswer(invocation -> {
+      InputStream body = new SequenceInputStream(sse("data: {\"choices\": [{\"text\": \"le\"}]}").getBody(),
+          new InputStream() {
+            private InputStream rest;
+
+            @Override
+            public int read() throws IOException {
+              if (rest == null) {
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  throw new InterruptedIOException();
+                }
+                rest = sse("data: {\"choices\": [{\"text\": \"genda\"}]}", "data: [DONE]").getBody();
+              }
+              return rest.read();
+            }
+          });
+      try {
+        String text = invocation.<ResponseExtractor<String>>getArgument(3)
+            .extractData(new MockClientHttpResponse(body, HttpStatus.OK));
+        readerOutcome.complete(null);
+        return text;
+      } catch (RuntimeException e) {
+        readerOutcome.complete(e);
+        throw e;
+      }
+    });
+    List<String> chunks = new CopyOnWriteArrayList<>();
+
+    CompletableFuture<String> result = service.generateSubtitleStream("olá", config, chunks::add);
+
+    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(AIServiceUnavailableException.class);
+    release.countDown();
+    assertThat(readerOutcome.get(5, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+    assertThat(chunks).containsExactly("le");
+    assertThat(cache.asMap()).isEmpty();
+  }
+
+  private static MockClientHttpResponse sse(String... lines) {
+    return new MockClientHttpResponse((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).as("condição não atingida em 5s").isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  static ResponseEntity<Map<String, Object>> completion(String text) {
+    return ResponseEntity.ok(Map.of("choices", List.of(Map.of("text", text))));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  OngoingStubbing<ResponseEntity> whenProviderCalled() {
+    return when((ResponseEntity) restTemplate.exchange(eq(URL), eq(HttpMethod.POST), any(HttpEntity.class),
+        any(ParameterizedTypeReference.class)));
+  }
+
+  @SuppressWarnings("unchecked")
+  OngoingStubbing<Object> whenStreamRequested() {
+    return when((Object) restTemplate.execute(eq(URL), eq(HttpMethod.POST), any(RequestCallback.class),
+        any(ResponseExtractor.class)));
+  }
+
+  @SuppressWarnings("unchecked")
+  void verifyStreamRequested(int count) {
+    verify(restTemplate, times(count)).execute(eq(URL), eq(HttpMethod.POST), any(RequestCallback.class),
+        any(ResponseExtractor.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  void verifyProviderCalled(int count) {
+    verify(restTemplate, times(count)).exchange(eq(URL), eq(HttpMethod.POST), any(HttpEntity.class),
+        any(ParameterizedTypeReference.class));
+  }
+}
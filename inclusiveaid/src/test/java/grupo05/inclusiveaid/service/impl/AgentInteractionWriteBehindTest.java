@@ -0,0 +1,236 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.dto.AgentInteractionDTO;
+import grupo05.inclusiveaid.enums.InteractionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class AgentInteractionWriteBehindTest {
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+    jdbcTemplate = new JdbcTemplate(database);
+    jdbcTemplate.execute("CREATE TABLE agent_interactions (id BIGINT AUTO_INCREMENT PRIMARY KEY, agent_id BIGINT, "
+        + "user_id BIGINT, timestamp TIMESTAMP, type VARCHAR(50), action VARCHAR(20), response VARCHAR(255), "
+        + "successful BOOLEAN)");
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  @Test
+  void disabledWriterRejectsInteractions() {
+    AgentInteractionWriteBehind writeBehind = writeBehind(false, Duration.ofMillis(50));
+    writeBehind.start();
+
+    assertThat(writeBehind.isEnabled()).isFalse();
+    assertThat(writeBehind.enqueue(interaction(1))).isFalse();
+  }
+
+  @Test
+  void flushesAfterFlushInterval() throws InterruptedException {
+    AgentInteractionWriteBehind writeBehind = writeBehind(true, Duration.ofMillis(50));
+    writeBehind.start();
+    try {
+      for (int i = 0; i < 3; i++) {
+        assertThat(writeBehind.enqueue(interaction(i))).isTrue();
+      }
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (rows() < 3 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(rows()).isEqualTo(3);
+    } finally {
+      writeBehind.stop();
+    }
+  }
+
+  @Test
+  void stopWritesEverythingQueued() {
+    // flush-interval longo: sem o encerramento, nada seria gravado durante o teste
+    AgentInteractionWriteBehind writeBehind = writeBehind(true, Duration.ofMinutes(1));
+    writeBehind.start();
+    for (int i = 0; i < 120; i++) {
+      assertThat(writeBehind.enqueue(interaction(i))).isTrue();
+    }
+
+    writeBehind.stop();
+
+    assertThat(rows()).isEqualTo(120);
+    assertThat(writeBehind.enqueue(interaction(999))).isFalse();
+  }
+
+  @Test
+  void everyAcceptedInteractionIsWrittenWhenStoppingUnderLoad() throws InterruptedException {
+    AgentInteractionWriteBehind writeBehind = writeBehind(true, Duration.ofMillis(20));
+    writeBehind.start();
+    AtomicInteger accepted = new AtomicInteger();
+    AtomicBoolean done = new AtomicBoolean();
+    CountDownLatch started = new CountDownLatch(4);
+    List<Thread> producers = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      producers.add(Thread.ofVirtual().start(() -> {
+        started.countDown();
+        for (int i = 0; !done.get(); i++) {
+          if (writeBehind.enqueue(interaction(i))) {
+            accepted.incrementAndGet();
+          }
+        }
+      }));
+    }
+    started.await();
+    Thread.sleep(100);
+
+    writeBehind.stop();
+    done.set(true);
+    for (Thread producer : producers) {
+      producer.join();
+    }
+
+    assertThat(accepted.get()).isPositive();
+    assertThat(rows()).isEqualTo(accepted.get());
+  }
+
+  @Test
+  void invalidRowDoesNotDropTheRestOfTheBatch() {
+    AgentInteractionWriteBehind writeBehind = writeBehind(true, Duration.ofMinutes(1));
+    writeBehind.start();
+    writeBehind.enqueue(interaction(1));
+    writeBehind.enqueue(AgentInteractionDTO.builder().agentId(1L).userId(1L).timestamp(LocalDateTime.now())
+        .type(InteractionType.VOICE_COMMAND).action("x".repeat(100)).response("r").build());
+    writeBehind.enqueue(interaction(2));
+
+    writeBehind.stop();
+
+    assertThat(rows()).isEqualTo(2);
+    assertThat(meterRegistry.counter("ai.interactions.write_behind.failed").count()).isEqualTo(1);
+  }
+
+  @Test
+  void insertAllWritesOneBatchAndReturnsGeneratedIds() {
+    AgentInteractionWriteBehind writeBehind = writeBehind(false, Duration.ofMinutes(1));
+    jdbcTemplate.update("INSERT INTO agent_interactions (agent_id, user_id, action) VALUES (1, 1, 'anterior')");
+
+    List<AgentInteractionDTO> saved = writeBehind.insertAll(List.of(interaction(1), interaction(2), interaction(3)));
+
+    assertThat(saved).extracting(AgentInteractionDTO::getId).containsExactly(2L, 3L, 4L);
+    assertThat(saved).extracting(AgentInteractionDTO::getAction)
+        .containsExactly("abrir menu 1", "abrir menu 2", "abrir menu 3");
+    assertThat(rows()).isEqualTo(4);
+    assertThat(writeBehind.insertAll(List.of())).isEmpty();
+  }
+
+  @Test
+  void transactionFailureDoesNotKillTheWriter() throws InterruptedException {
+    TransactionTemplate failing = mock(TransactionTemplate.class);
+    doThrow(new CannotCreateTransactionException("conexão recusada")).when(failing).executeWithoutResult(any());
+    AgentInteractionWriteBehind writeBehind = writeBehind(failing, Duration.ofMillis(20), Duration.ofSeconds(10));
+    writeBehind.start();
+    try {
+      writeBehind.enqueue(interaction(1));
+      awaitRows(1);
+      writeBehind.enqueue(interaction(2));
+      awaitRows(2);
+
+      assertThat(writeBehind.isEnabled()).isTrue();
+    } finally {
+      writeBehind.stop();
+    }
+  }
+
+  @Test
+  void stopWritesWhatTheWriterCouldNotDrainInTime() throws InterruptedException {
+    TransactionTemplate real = new TransactionTemplate(new DataSourceTransactionManager(database));
+    TransactionTemplate slow = mock(TransactionTemplate.class);
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      blocked.countDown();
+      release.await();
+      real.executeWithoutResult(invocation.getArgument(0));
+      return null;
+    }).doAnswer(invocation -> {
+      real.executeWithoutResult(invocation.getArgument(0));
+      return null;
+    }).when(slow).executeWithoutResult(any());
+    AgentInteractionWriteBehind writeBehind = writeBehind(slow, Duration.ofMillis(20), Duration.ofMillis(100));
+    writeBehind.start();
+    writeBehind.enqueue(interaction(0));
+    blocked.await();
+    for (int i = 1; i < 10; i++) {
+      writeBehind.enqueue(interaction(i));
+    }
+
+    writeBehind.stop();
+
+    // O encerramento gravou a fila; o lote retido pelo escritor é gravado ao liberá-lo
+    assertThat(rows()).isEqualTo(9);
+    release.countDown();
+    awaitRows(10);
+  }
+
+  private AgentInteractionWriteBehind writeBehind(boolean enabled, Duration flushInterval) {
+    return new AgentInteractionWriteBehind(jdbcTemplate,
+        new TransactionTemplate(new DataSourceTransactionManager(database)), meterRegistry, enabled, 1000, 50, flushInterval,
+        Duration.ofMillis(20), Duration.ofSeconds(10));
+  }
+
+  private AgentInteractionWriteBehind writeBehind(TransactionTemplate transactionTemplate, Duration flushInterval,
+                                                  Duration shutdownTimeout) {
+    return new AgentInteractionWriteBehind(jdbcTemplate, transactionTemplate, meterRegistry, true, 1000, 50,
+        flushInterval, Duration.ofMillis(20), shutdownTimeout);
+  }
+
+  private void awaitRows(int count) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (rows() < count && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(rows()).isEqualTo(count);
+  }
+
+  private int rows() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM agent_interactions", Integer.class);
+  }
+
+  private static AgentInteractionDTO interaction(int i) {
+    return AgentInteractionDTO.builder()
+        .agentId(1L)
+        .userId(1L)
+        .timestamp(LocalDateTime.now())
+        .type(InteractionType.VOICE_COMMAND)
+        .action("abrir menu " + (i % 100))
+        .response("menu aberto")
+        .successful(true)
+        .build();
+  }
+}
@@ -0,0 +1,75 @@
+package grupo05.inclusiveaid.service.impl;
+
+import grupo05.inclusiveaid.dto.SessionDTO;
+import grupo05.inclusiveaid.entity.Session;
+import grupo05.inclusiveaid.entity.User;
+import grupo05.inclusiveaid.mapper.SessionMapper;
+import grupo05.inclusiveaid.repository.SessionRepository;
+import grupo05.inclusiveaid.repository.UserRepository;
+import grupo05.inclusiveaid.service.ActiveSessionService;
+import grupo05.inclusiveaid.service.SessionEventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionServiceImplTest {
+  private static final Instant STARTED_AT = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+
+  private final SessionRepository repo = mock(SessionRepository.class);
+  private final UserRepository userRepo = mock(UserRepository.class);
+  private final ActiveSessionService activeSessions = mock(ActiveSessionService.class);
+  private final SessionEventService events = mock(SessionEventService.class);
+  private final User user = User.builder().id(1L).build();
+  private Session stored;
+  private SessionServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    stored = Session.builder().id(7L).user(user).startedAt(STARTED_AT).build();
+    when(repo.findById(7L)).thenAnswer(invocation -> Optional.of(copy(stored)));
+    when(repo.save(any(Session.class))).thenAnswer(invocation -> {
+      stored = copy(invocation.getArgument(0));
+      return copy(stored);
+    });
+    when(userRepo.findById(1L)).thenReturn(Optional.of(user));
+    service = new SessionServiceImpl(repo, Mappers.getMapper(SessionMapper.class), userRepo, activeSessions, events);
+  }
+
+  @Test
+  void updateWithoutStartTimeKeepsTheStoredStart() {
+    SessionDTO updated = service.update(7L, SessionDTO.builder().userId(1L).build());
+
+    assertThat(updated.getStartTime()).isEqualTo(STARTED_AT.toString());
+    assertThat(updated.getEndTime()).isNotNull();
+    assertThat(stored.getStartedAt()).isEqualTo(STARTED_AT);
+  }
+
+  @Test
+  void repeatedUpdateDoesNotMoveTheEnd() {
+    Instant endedAt = Instant.parse(service.update(7L, SessionDTO.builder().userId(1L).build()).getEndTime());
+
+    SessionDTO again = service.update(7L, SessionDTO.builder().userId(1L)
+        .startTime(Instant.now().toString()).endTime(Instant.now().plusSeconds(60).toString()).build());
+
+    assertThat(again.getStartTime()).isEqualTo(STARTED_AT.toString());
+    assertThat(Instant.parse(again.getEndTime())).isEqualTo(endedAt);
+    verify(activeSessions, times(1)).evict(7L);
+    verify(events, times(1)).close(7L);
+  }
+
+  private static Session copy(Session session) {
+    return Session.builder().id(session.getId()).user(session.getUser())
+        .startedAt(session.getStartedAt()).endedAt(session.getEndedAt()).build();
+  }
+}
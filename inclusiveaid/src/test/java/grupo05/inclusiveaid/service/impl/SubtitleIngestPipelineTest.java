@@ -0,0 +1,170 @@
+package grupo05.inclusiveaid.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grupo05.inclusiveaid.config.SubtitleIngestProperties;
+import grupo05.inclusiveaid.dto.SubtitleIngestResultDTO;
+import grupo05.inclusiveaid.repository.SessionRepository;
+import grupo05.inclusiveaid.service.SessionEventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SubtitleIngestPipelineTest {
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private final SessionEventService events = mock(SessionEventService.class);
+  private final SessionRepository sessionRepository = mock(SessionRepository.class);
+  private final SubtitleIngestProperties properties = new SubtitleIngestProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private SubtitleIngestPipeline pipeline;
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+    jdbcTemplate = new JdbcTemplate(database);
+    jdbcTemplate.execute("CREATE TABLE subtitles (id BIGINT AUTO_INCREMENT PRIMARY KEY, session_id BIGINT, "
+        + "text VARCHAR(20), timestamp TIMESTAMP)");
+    when(sessionRepository.existsByIdAndEndedAtIsNull(1L)).thenReturn(true);
+    properties.setBatchSize(2);
+    properties.setQueueCapacity(4);
+    // intervalo longo: os lotes só fecham pelo tamanho ou pelo fim do stream
+    properties.setFlushInterval(Duration.ofMinutes(1));
+    pipeline = new SubtitleIngestPipeline(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(database)),
+        new ObjectMapper(), events, properties, sessionRepository, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  @Test
+  void plainTextLinesAreWrittenInBatches() {
+    SubtitleIngestResultDTO result = pipeline.ingest(1L, reader("um\ndois\n\n  tres  \nquatro\ncinco\n"), false);
+
+    assertThat(result.getReceived()).isEqualTo(5);
+    assertThat(result.getWritten()).isEqualTo(5);
+    assertThat(result.getRejected()).isZero();
+    assertThat(result.getBatches()).isEqualTo(3);
+    assertThat(jdbcTemplate.queryForList("SELECT text FROM subtitles ORDER BY id", String.class))
+        .containsExactly("um", "dois", "tres", "quatro", "cinco");
+    verify(events, times(3)).publish(eq(1L), eq(SubtitleIngestPipeline.EVENT), any());
+  }
+
+  @Test
+  void everyReceivedLineIsWrittenOrRejected() {
+    String body = String.join("\n",
+        "{\"text\": \"um\"}",
+        "não é json",
+        "{\"texto\": \"campo errado\"}",
+        "{\"text\": \"" + "x".repeat(30) + "\"}",
+        "{\"text\": \"dois\"}",
+        "{\"text\": \"   \"}");
+
+    SubtitleIngestResultDTO result = pipeline.ingest(1L, reader(body), true);
+
+    assertThat(result.getReceived()).isEqualTo(6);
+    assertThat(result.getWritten()).isEqualTo(2);
+    assertThat(result.getRejected()).isEqualTo(4);
+    assertThat(result.getWritten() + result.getRejected()).isEqualTo(result.getReceived());
+    assertThat(rows()).isEqualTo(2);
+    assertThat(meterRegistry.counter("subtitles.ingest.written").count()).isEqualTo(2);
+    assertThat(meterRegistry.counter("subtitles.ingest.rejected").count()).isEqualTo(4);
+  }
+
+  @Test
+  void ingestionStopsWhenTheSessionEnds() {
+    when(sessionRepository.existsByIdAndEndedAtIsNull(1L)).thenReturn(true, false);
+    SubtitleIngestResultDTO result = pipeline.ingest(1L, reader(lines(50)), false);
+
+    assertThat(result.getWritten()).isEqualTo(2);
+    assertThat(result.getBatches()).isEqualTo(1);
+    assertThat(result.getReceived()).isLessThan(50);
+    assertThat(result.getWritten() + result.getRejected()).isEqualTo(result.getReceived());
+    assertThat(rows()).isEqualTo(2);
+  }
+
+  @Test
+  void publishFailureKeepsTheSubtitlesWritten() {
+    doThrow(new IllegalStateException("canal fechado")).when(events).publish(any(), anyString(), any());
+
+    SubtitleIngestResultDTO result = pipeline.ingest(1L, reader(lines(50)), false);
+
+    assertThat(result.getReceived()).isEqualTo(50);
+    assertThat(result.getWritten()).isEqualTo(50);
+    assertThat(result.getRejected()).isZero();
+    assertThat(rows()).isEqualTo(50);
+  }
+
+  @Test
+  void transactionFailureIsCountedAndTheWriterContinues() {
+    TransactionTemplate failing = mock(TransactionTemplate.class);
+    doThrow(new CannotCreateTransactionException("conexão recusada")).when(failing).executeWithoutResult(any());
+    pipeline = new SubtitleIngestPipeline(jdbcTemplate, failing, new ObjectMapper(), events, properties,
+        sessionRepository, meterRegistry);
+
+    SubtitleIngestResultDTO result = pipeline.ingest(1L, reader(lines(10)), false);
+
+    // o lote sem transação é regravado linha a linha
+    assertThat(result.getReceived()).isEqualTo(10);
+    assertThat(result.getWritten()).isEqualTo(10);
+    assertThat(result.getBatches()).isEqualTo(5);
+    assertThat(rows()).isEqualTo(10);
+  }
+
+  @Test
+  void sessionCheckFailureRejectsOnlyThatBatch() {
+    when(sessionRepository.existsByIdAndEndedAtIsNull(1L))
+        .thenReturn(true)
+        .thenThrow(new CannotGetJdbcConnectionException("pool esgotado"))
+        .thenReturn(true);
+
+    SubtitleIngestResultDTO result = pipeline.ingest(1L, reader(lines(6)), false);
+
+    assertThat(result.getReceived()).isEqualTo(6);
+    assertThat(result.getWritten()).isEqualTo(4);
+    assertThat(result.getRejected()).isEqualTo(2);
+    assertThat(jdbcTemplate.queryForList("SELECT text FROM subtitles ORDER BY id", String.class))
+        .containsExactly("linha 0", "linha 1", "linha 4", "linha 5");
+  }
+
+  private int rows() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM subtitles", Integer.class);
+  }
+
+  private static String lines(int count) {
+    StringBuilder body = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      body.append("linha ").append(i).append('\n');
+    }
+    return body.toString();
+  }
+
+  private static BufferedReader reader(String body) {
+    return new BufferedReader(new StringReader(body));
+  }
+}
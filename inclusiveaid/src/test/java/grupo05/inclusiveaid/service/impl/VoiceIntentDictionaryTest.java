@@ -0,0 +1,119 @@
+package grupo05.inclusiveaid.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VoiceIntentDictionaryTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final VoiceIntentDictionary dictionary = compile("""
+      {
+        "fillers": ["por", "favor", "o", "a", "agora"],
+        "intents": [
+          {"name": "OPEN_MENU", "response": "menu aberto", "patterns": ["abrir menu", "abre o menu", "menu"]},
+          {"name": "NEXT_PAGE", "response": "próxima página", "patterns": ["próxima página", "avançar"]}
+        ]
+      }
+      """);
+
+  @Test
+  void commandIsNormalizedLikeThePatterns() {
+    assertThat(dictionary.match("abrir menu")).isEqualTo("menu aberto");
+    assertThat(dictionary.match("  ABRE o Menu, por favor!  ")).isEqualTo("menu aberto");
+    assertThat(dictionary.match("proxima pagina")).isEqualTo("próxima página");
+    assertThat(dictionary.match("Próxima   PÁGINA.")).isEqualTo("próxima página");
+    // Acentos já decompostos (NFD), como alguns reconhecedores de fala entregam
+    assertThat(dictionary.match("avanc\u0327ar agora")).isEqualTo("próxima página");
+    assertThat(dictionary.match("pro\u0301xima pa\u0301gina")).isEqualTo("próxima página");
+  }
+
+  @Test
+  void wholeCommandMustFormAPattern() {
+    assertThat(dictionary.match("não abrir menu")).isNull();
+    assertThat(dictionary.match("abrir menu de configurações")).isNull();
+    assertThat(dictionary.match("abrir")).isNull();
+    assertThat(dictionary.match("próxima")).isNull();
+  }
+
+  @Test
+  void emptyCommandDoesNotMatch() {
+    assertThat(dictionary.match("")).isNull();
+    assertThat(dictionary.match("   ")).isNull();
+    assertThat(dictionary.match("por favor")).isNull();
+  }
+
+  @Test
+  void countsIntentsPatternsAndFillers() {
+    assertThat(dictionary.getIntents()).isEqualTo(2);
+    assertThat(dictionary.getPatterns()).isEqualTo(5);
+    assertThat(dictionary.getFillers()).isEqualTo(5);
+  }
+
+  @Test
+  void patternRepeatedInTheSameIntentIsCountedOnce() {
+    VoiceIntentDictionary repeated = compile("""
+        {"intents": [{"name": "GO_BACK", "response": "voltando", "patterns": ["voltar", "Voltar!"]}]}
+        """);
+
+    assertThat(repeated.getPatterns()).isEqualTo(1);
+  }
+
+  @Test
+  void patternInTwoIntentsIsRejected() {
+    assertThatThrownBy(() -> compile("""
+        {"fillers": ["o"],
+         "intents": [
+           {"name": "OPEN_MENU", "response": "menu aberto", "patterns": ["abrir menu"]},
+           {"name": "SHOW_MENU", "response": "menu exibido", "patterns": ["abrir o menu"]}
+         ]}
+        """))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("OPEN_MENU")
+        .hasMessageContaining("SHOW_MENU");
+  }
+
+  @Test
+  void patternMadeOnlyOfFillersIsRejected() {
+    assertThatThrownBy(() -> compile("""
+        {"fillers": ["por", "favor"],
+         "intents": [{"name": "OPEN_MENU", "response": "menu aberto", "patterns": ["por favor"]}]}
+        """))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("vazio");
+  }
+
+  @Test
+  void incompleteIntentIsRejected() {
+    assertThatThrownBy(() -> compile("""
+        {"intents": [{"name": "OPEN_MENU", "patterns": ["abrir menu"]}]}
+        """))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shippedDictionaryCompiles() throws IOException {
+    try (InputStream in = getClass().getResourceAsStream("/voice-intents.json")) {
+      VoiceIntentDictionary shipped = VoiceIntentDictionary.compile(MAPPER.readTree(in));
+
+      assertThat(shipped.getPatterns()).isPositive();
+      assertThat(shipped.match("Abra o menu, por favor")).isEqualTo("menu aberto");
+      assertThat(shipped.match("não abrir menu")).isNull();
+    }
+  }
+
+  private static VoiceIntentDictionary compile(String json) {
+    try {
+      JsonNode source = MAPPER.readTree(json);
+      return VoiceIntentDictionary.compile(source);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package grupo05.inclusiveaid.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grupo05.inclusiveaid.config.VoiceIntentProperties;
+import grupo05.inclusiveaid.dto.VoiceIntentDictionaryDTO;
+import grupo05.inclusiveaid.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VoiceIntentServiceImplTest {
+  private static final String MENU = """
+      {"fillers": ["o"],
+       "intents": [{"name": "OPEN_MENU", "response": "menu aberto", "patterns": ["abrir menu"]}]}
+      """;
+
+  @TempDir
+  Path dir;
+
+  private Path file;
+  private final VoiceIntentProperties properties = new VoiceIntentProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private VoiceIntentServiceImpl service;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    file = dir.resolve("voice-intents.json");
+    Files.writeString(file, MENU);
+    properties.setLocation(file.toUri().toString());
+    service = new VoiceIntentServiceImpl(properties, new DefaultResourceLoader(), new ObjectMapper(), meterRegistry);
+  }
+
+  @Test
+  void lookupsAreCountedAsHitsAndMisses() {
+    service.reload();
+
+    assertThat(service.match("Abrir o menu")).contains("menu aberto");
+    assertThat(service.match("não abrir menu")).isEmpty();
+    assertThat(service.match("")).isEmpty();
+
+    assertThat(meterRegistry.counter("voice.intents.lookups", "result", "hit").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("voice.intents.lookups", "result", "miss").count()).isEqualTo(2);
+    assertThat(meterRegistry.get("voice.intents.patterns").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void invalidReloadKeepsThePreviousDictionary() throws IOException {
+    VoiceIntentDictionaryDTO loaded = service.reload();
+    Files.writeString(file, """
+        {"intents": [
+          {"name": "OPEN_MENU", "response": "menu aberto", "patterns": ["abrir menu"]},
+          {"name": "SHOW_MENU", "response": "menu exibido", "patterns": ["abrir menu"]}
+        ]}
+        """);
+
+    assertThatThrownBy(service::reload).isInstanceOf(ValidationException.class);
+    Files.writeString(file, "{ nao e json");
+    assertThatThrownBy(service::reload).isInstanceOf(ValidationException.class);
+
+    assertThat(service.match("abrir menu")).contains("menu aberto");
+    assertThat(service.getDictionary()).isEqualTo(loaded);
+    assertThat(meterRegistry.counter("voice.intents.reload_failures").count()).isEqualTo(2);
+  }
+
+  @Test
+  void reloadReplacesTheDictionary() throws IOException {
+    service.reload();
+    Files.writeString(file, """
+        {"intents": [{"name": "GO_BACK", "response": "voltando", "patterns": ["voltar"]}]}
+        """);
+
+    service.reload();
+
+    assertThat(service.match("voltar")).contains("voltando");
+    assertThat(service.match("abrir menu")).isEmpty();
+  }
+
+  @Test
+  void disabledRecognitionNeverMatches() {
+    service.reload();
+    properties.setEnabled(false);
+
+    assertThat(service.match("abrir menu")).isEmpty();
+    assertThatThrownBy(service::reload).isInstanceOf(ValidationException.class);
+  }
+}